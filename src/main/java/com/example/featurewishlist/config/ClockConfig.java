@@ -0,0 +1,16 @@
+package com.example.featurewishlist.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+// Zentrale Uhr für datumsabhängige Logik (z. B. Quartalsbudgets); in Tests austauschbar
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.featurewishlist.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Hintergrundjobs (z. B. Ticket-Outbox); in Tests abschaltbar, damit Messungen nicht verfälscht werden
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -4,16 +4,37 @@ import com.example.featurewishlist.view.LoginView;
 import com.vaadin.flow.spring.security.VaadinWebSecurity;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 @Configuration
 public class SecurityConfig extends VaadinWebSecurity {
 
+    // Eigene Kette für die REST-/SSE-Schnittstelle externer Konsumenten: nur Admins, HTTP Basic,
+    // ohne Session. Greift vor der Vaadin-Kette, die dadurch reines Form-Login bleibt.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurity(HttpSecurity http) throws Exception {
+        http.securityMatcher(new AntPathRequestMatcher("/api/**"))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("ADMIN"))
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .csrf(csrf -> csrf.disable());
+        return http.build();
+    }
+
     @Override
     protected void configure(HttpSecurity http) throws Exception {
+        // Öffentliche, session-lose Wunschliste (Spring MVC, kein Vaadin)
+        http.authorizeHttpRequests(auth -> auth
+                .requestMatchers(new AntPathRequestMatcher("/public/**")).permitAll());
         // Wichtig: lässt Vaadin seine internen Endpunkte /VAADIN/** usw. korrekt zu
         super.configure(http);
         // Login-Route für Spring Security/ Vaadin setzen
@@ -1,8 +1,10 @@
 package com.example.featurewishlist.config;
 
+import com.example.featurewishlist.model.Board;
 import com.example.featurewishlist.model.FeatureRequest;
 import com.example.featurewishlist.model.FeatureStatus;
 import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.service.BoardService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +18,7 @@ import java.util.List;
 public class TestDataLoader {
 
     private final FeatureRequestRepository featureRequestRepository;
+    private final BoardService boardService;
 
     @Value("${app.testdata.enabled:false}")
     private boolean testdataEnabled;
@@ -33,9 +36,11 @@ public class TestDataLoader {
         }
 
         System.out.println("🚀 Lade Testdaten...");
+        Board board = boardService.defaultBoard();
 
         List<FeatureRequest> features = List.of(
                 FeatureRequest.builder()
+                        .board(board)
                         .title("Dark Mode")
                         .description("Ein Dark Mode für die gesamte Anwendung, um die Augen zu schonen.")
                         .category("UI/UX")
@@ -43,6 +48,7 @@ public class TestDataLoader {
                         .createdAt(LocalDateTime.now().minusDays(2))
                         .build(),
                 FeatureRequest.builder()
+                        .board(board)
                         .title("Export als PDF")
                         .description("Export von Featurelisten als PDF-Dokument.")
                         .category("Funktion")
@@ -50,6 +56,7 @@ public class TestDataLoader {
                         .createdAt(LocalDateTime.now().minusDays(5))
                         .build(),
                 FeatureRequest.builder()
+                        .board(board)
                         .title("Jira Integration")
                         .description("Automatische Verknüpfung von Features mit Jira-Tickets.")
                         .category("Integration")
@@ -0,0 +1,221 @@
+package com.example.featurewishlist.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Einmalige Migration: ersetzt die Spalte vote.voter_id (36-Zeichen-UUID als Text) durch
+// vote.voter_key (Integer) mit Verweis auf das Voter-Wörterbuch. Läuft nur, solange die alte
+// Spalte existiert, und loggt vorher/nachher den von H2 gemeldeten Platzbedarf (DISK_SPACE_USED,
+// Tabelle inkl. Indizes) und die Dauer der Doppelvote-Prüfung.
+//
+// Die Alttabelle hatte keinen Unique-Constraint, und Groß-/Kleinschreibung derselben UUID ergibt
+// denselben Voter. Doppelte (Feature, Voter)-Zeilen werden daher vor dem Zuweisen der Schlüssel
+// zusammengeführt, sonst verletzt das Update den Constraint uk_vote_feature_voter_key.
+//
+// Zwei Schritte: (1) Daten – Wörterbuch füllen, Dubletten zusammenführen, Schlüssel zuweisen – in einer Transaktion,
+// wiederholbar; (2) danach das Entfernen der Altspalte. DDL committet implizit (H2 wie die meisten
+// Datenbanken) und ist daher nicht Teil der Transaktion. Bricht (2) ab, wiederholt der nächste Start
+// Schritt (1) ohne Wirkung und entfernt dann die Spalte.
+@Slf4j
+@Component
+@Order(0)
+public class VoterMigration implements ApplicationRunner {
+
+    private static final int SAMPLE_SIZE = 200;
+
+    // Kanonische Textform, die sich per cast(… as uuid) direkt umwandeln lässt
+    private static final String CANONICAL_UUID =
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public VoterMigration(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!hasColumn("VOTE", "VOTER_ID")) {
+            return;
+        }
+        log.info("🔄 Migriere vote.voter_id → Voter-Wörterbuch …");
+
+        List<Map<String, Object>> sample = jdbc.queryForList(
+                "select feature_id, voter_id from vote where voter_id is not null order by id fetch first "
+                        + SAMPLE_SIZE + " rows only");
+        long rows = count("select count(*) from vote");
+        long legacyBytes = diskSpaceUsed("VOTE");
+        double legacyMicros = measure("select count(*) from vote where feature_id = ? and voter_id = ?",
+                sample, r -> r.get("voter_id"));
+
+        boolean archive = hasColumn("ARCHIVED_VOTE", "VOTER_ID");
+        // Schritt 1: nur Daten, wird bei einem Fehler vollständig zurückgerollt
+        tx.executeWithoutResult(status -> {
+            normalizeLegacyIds("vote");
+            if (archive) {
+                normalizeLegacyIds("archived_vote");
+            }
+            migrateVoters(archive);
+            mergeDuplicateVotes();
+            assignKeys("vote");
+            if (archive) {
+                assignKeys("archived_vote");
+            }
+        });
+
+        // Schritt 2: DDL (committet implizit), erst wenn jede Zeile einen Schlüssel hat
+        long missing = count("select count(*) from vote where voter_id is not null and voter_key is null")
+                + (archive ? count("select count(*) from archived_vote where voter_id is not null and voter_key is null") : 0);
+        if (missing > 0) {
+            throw new IllegalStateException(missing + " Votes ohne voter_key – Altspalte bleibt erhalten");
+        }
+        // vote.voter_id zuletzt: solange sie existiert, läuft die Migration beim nächsten Start erneut
+        if (archive) {
+            jdbc.execute("alter table archived_vote drop column voter_id");
+        }
+        jdbc.execute("alter table vote drop constraint if exists uk_vote_feature_voter");
+        jdbc.execute("alter table vote drop column voter_id");
+
+        long merged = rows - count("select count(*) from vote");
+        long voters = count("select count(*) from voter");
+        long compactBytes = diskSpaceUsed("VOTE");
+        long dictionaryBytes = diskSpaceUsed("VOTER");
+        List<Map<String, Object>> keySample = jdbc.queryForList(
+                "select feature_id, voter_key from vote order by id fetch first " + SAMPLE_SIZE + " rows only");
+        double compactMicros = measure("select count(*) from vote where feature_id = ? and voter_key = ?",
+                keySample, r -> r.get("voter_key"));
+
+        log.info("✅ Voter-Migration: {} Votes ({} Dubletten zusammengeführt), {} Voter. "
+                        + "DISK_SPACE_USED vote vorher {}, nachher {}; voter {}. "
+                        + "Doppelvote-Prüfung vorher {} µs, nachher {} µs (Mittel über {} Abfragen)",
+                rows, merged, voters, bytes(legacyBytes), bytes(compactBytes), bytes(dictionaryBytes),
+                String.format("%.1f", legacyMicros), String.format("%.1f", compactMicros), sample.size());
+    }
+
+    // Ungültige bzw. nicht kanonische Altwerte (wenige Einzelfälle) vorab in die Textform der UUID
+    // bringen, auf die toUuid() sie abbildet; danach ist jede voter_id per cast umwandelbar
+    private void normalizeLegacyIds(String table) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbc.query("select distinct voter_id from " + table + " where voter_id is not null "
+                + "and not regexp_like(voter_id, '" + CANONICAL_UUID + "')", rs -> {
+            String legacy = rs.getString(1);
+            updates.add(new Object[]{toUuid(legacy).toString(), legacy});
+        });
+        if (!updates.isEmpty()) {
+            jdbc.batchUpdate("update " + table + " set voter_id = ? where voter_id = ?", updates);
+            log.info("{} nicht kanonische voter_id-Werte in {} umgeschrieben", updates.size(), table);
+        }
+    }
+
+    private void migrateVoters(boolean archive) {
+        insertVoters("vote");
+        if (archive) {
+            // Voter, die nur noch im Archiv vorkommen
+            insertVoters("archived_vote");
+        }
+    }
+
+    private void insertVoters(String table) {
+        jdbc.update("insert into voter (uuid, first_seen_at) select s.u, s.first_seen from "
+                + "(select cast(voter_id as uuid) u, min(voted_at) first_seen from " + table
+                + " where voter_id is not null group by cast(voter_id as uuid)) s "
+                + "where not exists (select 1 from voter x where x.uuid = s.u)");
+    }
+
+    // Schlüssel, den eine Vote-Zeile nach der Migration hat: vorhandener voter_key (nach einem
+    // abgebrochenen Lauf bereits neu geschriebene Stimmen) oder der Voter zur Alt-UUID
+    private static String resolvedKey(String alias) {
+        return "coalesce(" + alias + ".voter_key, (select x.id from voter x where x.uuid = cast("
+                + alias + ".voter_id as uuid)))";
+    }
+
+    // Je (Feature, Voter) bleibt die älteste Zeile (kleinste id) mit der Summe der Gewichte und dem
+    // frühesten Zeitpunkt; die übrigen werden gelöscht. voteCount der Features bleibt dadurch gleich.
+    private void mergeDuplicateVotes() {
+        String sameVote = "d.feature_id = v.feature_id and " + resolvedKey("d") + " = " + resolvedKey("v");
+        int kept = jdbc.update("update vote v set "
+                + "weight = (select sum(d.weight) from vote d where " + sameVote + "), "
+                + "voted_at = (select min(d.voted_at) from vote d where " + sameVote + ") "
+                + "where exists (select 1 from vote d where " + sameVote + " and d.id > v.id) "
+                + "and not exists (select 1 from vote d where " + sameVote + " and d.id < v.id)");
+        if (kept == 0) {
+            return;
+        }
+        int deleted = jdbc.update("delete from vote v where exists (select 1 from vote d where "
+                + sameVote + " and d.id < v.id)");
+        log.info("{} doppelte Votes in {} Zeilen zusammengeführt", deleted, kept);
+    }
+
+    // Eine Anweisung pro Tabelle statt eines Updates je Voter
+    private void assignKeys(String table) {
+        jdbc.update("update " + table + " t set voter_key = "
+                + "(select x.id from voter x where x.uuid = cast(t.voter_id as uuid)) "
+                + "where t.voter_id is not null and t.voter_key is null");
+    }
+
+    // Ungültige Altwerte werden deterministisch auf eine namensbasierte UUID abgebildet
+    private static UUID toUuid(String legacy) {
+        try {
+            return UUID.fromString(legacy);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(legacy.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private double measure(String sql, List<Map<String, Object>> sample,
+                           Function<Map<String, Object>, Object> voter) {
+        if (sample.isEmpty()) {
+            return 0;
+        }
+        // Ein ungemessener Durchlauf vorab, damit vorher und nachher beide mit warmem Cache laufen
+        for (Map<String, Object> r : sample) {
+            jdbc.queryForObject(sql, Long.class, r.get("feature_id"), voter.apply(r));
+        }
+        long start = System.nanoTime();
+        for (Map<String, Object> r : sample) {
+            jdbc.queryForObject(sql, Long.class, r.get("feature_id"), voter.apply(r));
+        }
+        return (System.nanoTime() - start) / 1000.0 / sample.size();
+    }
+
+    // Von H2 gemeldeter Platzbedarf der Tabelle inkl. ihrer Indizes; -1, wenn die DB das nicht liefert
+    private long diskSpaceUsed(String table) {
+        try {
+            Long n = jdbc.queryForObject("select disk_space_used(?)", Long.class, table);
+            return n != null ? n : -1;
+        } catch (DataAccessException e) {
+            return -1;
+        }
+    }
+
+    private static String bytes(long value) {
+        return value < 0 ? "nicht messbar" : value + " Byte";
+    }
+
+    private boolean hasColumn(String table, String column) {
+        Long n = jdbc.queryForObject("select count(*) from information_schema.columns "
+                + "where upper(table_name) = ? and upper(column_name) = ?", Long.class, table, column);
+        return n != null && n > 0;
+    }
+
+    private long count(String sql) {
+        Long n = jdbc.queryForObject(sql, Long.class);
+        return n != null ? n : 0;
+    }
+}
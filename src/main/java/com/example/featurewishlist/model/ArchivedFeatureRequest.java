@@ -0,0 +1,48 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Kalte Kopie eines abgeschlossenen Features (COMPLETED/REJECTED), siehe FeatureArchiver.
+// Die id entspricht der ursprünglichen FeatureRequest-id.
+@Entity
+@Table(indexes = @Index(name = "idx_archived_feature_board_status_rank", columnList = "boardId, status, rankScore DESC, id DESC"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedFeatureRequest {
+    @Id
+    private Long id;
+
+    private Long boardId;
+
+    private String title;
+
+    @Column(length = 5000)
+    private String description;
+
+    @Column(length = FeatureRequest.PREVIEW_LENGTH)
+    private String descriptionPreview;
+
+    private String category;
+
+    @Column(length = 1024)
+    private String ticketUrl;
+
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    private FeatureStatus status;
+
+    private LocalDateTime statusChangedAt;
+
+    private LocalDateTime archivedAt;
+
+    // Eingefrorene Punktesumme zum Zeitpunkt der Archivierung
+    private long finalVoteCount;
+
+    private double rankScore;
+}
@@ -0,0 +1,31 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+// Archivierte Stimme; verweist nur per id auf das archivierte Feature
+@Entity
+@Table(indexes = @Index(name = "idx_archived_vote_feature", columnList = "featureId"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedVote {
+    @Id
+    private Long id;
+
+    private Long featureId;
+
+    private Integer voterKey;
+
+    private LocalDateTime votedAt;
+
+    // Default für Bestandszeilen, die beim Hinzufügen der Spalte schon im Archiv liegen
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int weight = 1;
+}
@@ -0,0 +1,25 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Eigenständige Wunschliste (z. B. pro Produkt); erreichbar unter /b/{slug} bzw. /admin/{slug}
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Board {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 64)
+    private String slug;
+
+    private String name;
+
+    private LocalDateTime createdAt;
+}
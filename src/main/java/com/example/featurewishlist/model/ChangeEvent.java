@@ -0,0 +1,40 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Änderungsereignis für externe Konsumenten (Change Data Capture). Wird in derselben Transaktion
+// wie die Änderung geschrieben. Die Sequenznummer des Streams (seq) vergibt erst der ChangeEventRelay,
+// sobald die Zeile committet und sichtbar ist – lückenlos und in Commit-Reihenfolge. Die id (IDENTITY)
+// folgt dagegen der Einfügereihenfolge und hat Lücken durch zurückgerollte Transaktionen.
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_change_event_created", columnList = "createdAt"),
+        @Index(name = "uk_change_event_seq", columnList = "seq", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // null, bis der Relay das Ereignis weitergereicht hat
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32, nullable = false)
+    private ChangeEventType type;
+
+    private Long featureId;
+
+    // Zustand nach der Änderung als JSON
+    @Column(length = 4000)
+    private String payload;
+
+    private LocalDateTime createdAt;
+}
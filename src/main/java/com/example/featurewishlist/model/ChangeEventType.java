@@ -0,0 +1,7 @@
+package com.example.featurewishlist.model;
+
+public enum ChangeEventType {
+    FEATURE_CREATED,
+    FEATURE_UPDATED,
+    VOTE_CAST
+}
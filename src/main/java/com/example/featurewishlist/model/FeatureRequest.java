@@ -2,24 +2,43 @@ package com.example.featurewishlist.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // Sortierung der Wunschliste je Board: Index-Range-Scan statt Sortierung im Speicher
+        @Index(name = "idx_feature_board_rank", columnList = "board_id, rankScore DESC, id DESC"),
+        @Index(name = "idx_feature_board_status_rank", columnList = "board_id, status, rankScore DESC, id DESC"),
+        @Index(name = "idx_feature_status_changed", columnList = "status, statusChangedAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class FeatureRequest {
+    public static final int PREVIEW_LENGTH = 120;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Alle Abfragen der Listen sind auf ein Board beschränkt
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Board board;
+
     private String title;
 
     @Column(length = 5000)
     private String description;
 
+    // Gekürzte Beschreibung für die Listen; wird beim Speichern aus description abgeleitet
+    @Column(length = PREVIEW_LENGTH)
+    private String descriptionPreview;
+
     private String category;
 
     // 🔽 NEU: optionaler Ticket-Link (z. B. Jira)
@@ -28,6 +47,34 @@ public class FeatureRequest {
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Ohne @Builder.Default übergibt der Builder null statt OPEN
+    @Builder.Default
     @Enumerated(EnumType.STRING)
     private FeatureStatus status = FeatureStatus.OPEN;
+
+    // Zeitpunkt des letzten Statuswechsels; bestimmt, wann ein abgeschlossenes Feature archiviert wird
+    private LocalDateTime statusChangedAt;
+
+    // Denormalisierte Summe der Stimmgewichte (Punkte); nur per Bulk-Update änderbar (VoteService/RankingService),
+    // damit ein veraltetes Objekt aus dem UI beim Speichern keine Stimmen überschreibt
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long voteCount;
+
+    // Vorberechneter Ranking-Wert, siehe RankingService
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private double rankScore;
+
+    @PrePersist
+    @PreUpdate
+    void updateDescriptionPreview() {
+        descriptionPreview = preview(description);
+    }
+
+    public static String preview(String text) {
+        if (text == null) return "";
+        String t = text.trim();
+        return t.length() <= PREVIEW_LENGTH ? t : t.substring(0, PREVIEW_LENGTH - 1) + "…";
+    }
 }
@@ -1,8 +1,23 @@
 package com.example.featurewishlist.model;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum FeatureStatus {
     OPEN,
     IN_PROGRESS,
     COMPLETED,
-    REJECTED
+    REJECTED;
+
+    // Abgeschlossene Features wandern nach einer Weile ins Archiv
+    public boolean isClosed() {
+        return this == COMPLETED || this == REJECTED;
+    }
+
+    public static Set<FeatureStatus> closed() {
+        Set<FeatureStatus> closed = EnumSet.noneOf(FeatureStatus.class);
+        Arrays.stream(values()).filter(FeatureStatus::isClosed).forEach(closed::add);
+        return closed;
+    }
 }
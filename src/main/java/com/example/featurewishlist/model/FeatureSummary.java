@@ -0,0 +1,18 @@
+package com.example.featurewishlist.model;
+
+import java.time.LocalDateTime;
+
+// Schlanke, read-only Listenzeile für die Grids (ohne die bis zu 5000 Zeichen lange Beschreibung).
+// archived = true für Einträge aus dem Archiv.
+public record FeatureSummary(
+        Long id,
+        String title,
+        String descriptionPreview,
+        String category,
+        FeatureStatus status,
+        LocalDateTime createdAt,
+        String ticketUrl,
+        long voteCount,
+        boolean archived
+) {
+}
@@ -0,0 +1,30 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// In-App-Benachrichtigung (Digest) für einen Voter.
+// SEQUENCE statt IDENTITY, damit Hibernate die Inserts als JDBC-Batch schicken kann.
+@Entity
+@Table(indexes = @Index(name = "idx_inbox_voter_read", columnList = "voterKey, readAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InboxNotification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inbox_notification_seq")
+    @SequenceGenerator(name = "inbox_notification_seq", sequenceName = "inbox_notification_seq", allocationSize = 50)
+    private Long id;
+
+    private Integer voterKey;
+
+    @Column(length = 4000)
+    private String message;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime readAt;
+}
@@ -0,0 +1,7 @@
+package com.example.featurewishlist.model;
+
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
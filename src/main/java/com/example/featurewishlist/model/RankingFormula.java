@@ -0,0 +1,10 @@
+package com.example.featurewishlist.model;
+
+public enum RankingFormula {
+    // reine Stimmenanzahl
+    VOTES,
+    // zeitlich abklingender "Hot"-Score (neuere Wünsche steigen schneller auf)
+    HOT,
+    // Stimmen gewichtet nach Status (offene Wünsche vor erledigten)
+    STATUS_WEIGHTED
+}
@@ -0,0 +1,34 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Warteschlange für Benachrichtigungen: der Statuswechsel schreibt nur diese eine Zeile,
+// die Verteilung an die Abonnenten übernimmt der NotificationDigestJob.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusChangeEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long featureId;
+
+    private String featureTitle;
+
+    @Enumerated(EnumType.STRING)
+    private FeatureStatus newStatus;
+
+    private LocalDateTime createdAt;
+
+    // Nur am ersten Event eines laufenden Digest-Batches gesetzt: letztes Event des Batches und
+    // zuletzt zugestellter Voter-Schlüssel. Damit setzt der Job nach einem Abbruch nahtlos fort.
+    private Long batchEnd;
+
+    private Integer voterCursor;
+}
@@ -0,0 +1,28 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Ein Voter folgt einem Feature und wird über Statuswechsel benachrichtigt (entsteht automatisch beim Voten)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_subscription_feature_voter", columnNames = {"feature_id", "voter_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Subscription {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private FeatureRequest feature;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_key")
+    private Voter voter;
+
+    private LocalDateTime createdAt;
+}
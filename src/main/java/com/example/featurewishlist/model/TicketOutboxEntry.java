@@ -0,0 +1,50 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+// Outbox-Zeile: wird in derselben Transaktion wie der Statuswechsel geschrieben
+// und später vom TicketOutboxDispatcher abgearbeitet.
+@Entity
+@Table(indexes = @Index(name = "idx_ticket_outbox_due", columnList = "status, nextAttemptAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Version
+    private Long version;
+
+    private Long featureId;
+
+    // Zählt neu angeforderte Tickets, nachdem ein Ticket-Link entfernt wurde; Teil des idempotencyKey
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int generation;
+
+    // Wird an das Ticketsystem durchgereicht, damit Wiederholungen kein zweites Ticket erzeugen
+    @Column(unique = true, nullable = false)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    @Column(length = 1024)
+    private String ticketUrl;
+
+    @Column(length = 1024)
+    private String lastError;
+}
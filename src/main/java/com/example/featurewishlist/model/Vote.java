@@ -2,10 +2,12 @@ package com.example.featurewishlist.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_vote_feature_voter_key", columnNames = {"feature_id", "voter_key"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,10 +17,19 @@ public class Vote {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String voterId; // z. B. UUID für Cookie/Session
+    // Verweis ins Voter-Wörterbuch (statt 36-Zeichen-UUID pro Zeile)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_key")
+    private Voter voter;
 
     @ManyToOne
     private FeatureRequest feature;
 
     private LocalDateTime votedAt = LocalDateTime.now();
+
+    // Punkte dieses Voters für das Feature; jeder weitere Klick erhöht das Gewicht um einen Punkt
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int weight = 1;
 }
@@ -0,0 +1,21 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Punktekonto je Voter (ein Eintrag pro Voter). period ist das Quartal des letzten Abbuchens, z. B. "2026-Q4";
+// bei einem neuen Quartal setzt die nächste Abbuchung das Konto im selben UPDATE auf das volle Budget zurück.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteBudget {
+    @Id
+    private Integer voterKey;
+
+    private int balance;
+
+    @Column(length = 8)
+    private String period;
+}
@@ -0,0 +1,25 @@
+package com.example.featurewishlist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Wörterbuch der Voter: die Cookie-UUID wird einmal als 16-Byte-UUID gespeichert,
+// Votes verweisen nur noch auf den kompakten Integer-Schlüssel.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Voter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(unique = true, nullable = false)
+    private UUID uuid;
+
+    private LocalDateTime firstSeenAt;
+}
@@ -0,0 +1,44 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.ArchivedFeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedFeatureRequestRepository extends JpaRepository<ArchivedFeatureRequest, Long> {
+
+    @Query("select a.description from ArchivedFeatureRequest a where a.id = :id")
+    Optional<String> findDescriptionById(@Param("id") Long id);
+
+    @Query("select a.id as id, a.description as description from ArchivedFeatureRequest a "
+            + "where a.descriptionPreview is null order by a.id")
+    List<DescriptionPreviewInput> findWithoutPreview(Pageable pageable);
+
+    @Modifying
+    @Query("update ArchivedFeatureRequest a set a.descriptionPreview = :preview where a.id = :id")
+    int updateDescriptionPreview(@Param("id") Long id, @Param("preview") String preview);
+
+    // Archivierte Bestandsdaten aus der Zeit vor den Boards landen im Standard-Board
+    @Modifying
+    @Query("update ArchivedFeatureRequest a set a.boardId = :boardId where a.boardId is null")
+    int assignBoardWhereMissing(@Param("boardId") Long boardId);
+
+    // Kopiert Features samt eingefrorener Stimmenanzahl per INSERT … SELECT (ohne Umweg über Entities)
+    @Modifying
+    @Query("insert into ArchivedFeatureRequest (id, boardId, title, description, descriptionPreview, category, "
+            + "ticketUrl, createdAt, status, statusChangedAt, archivedAt, finalVoteCount, rankScore) "
+            + "select f.id, f.board.id, f.title, f.description, f.descriptionPreview, f.category, f.ticketUrl, "
+            + "f.createdAt, f.status, f.statusChangedAt, :now, f.voteCount, f.rankScore "
+            + "from FeatureRequest f where f.id in :ids and f.status in :statuses "
+            + "and coalesce(f.statusChangedAt, f.createdAt) < :cutoff")
+    int copyFromFeatures(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<FeatureStatus> statuses,
+                         @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+}
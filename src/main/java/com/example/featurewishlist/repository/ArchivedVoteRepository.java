@@ -0,0 +1,17 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.ArchivedVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArchivedVoteRepository extends JpaRepository<ArchivedVote, Long> {
+
+    @Modifying
+    @Query("insert into ArchivedVote (id, featureId, voterKey, votedAt, weight) "
+            + "select v.id, v.feature.id, v.voter.id, v.votedAt, v.weight from Vote v where v.feature.id in :featureIds")
+    int copyFromVotes(@Param("featureIds") Collection<Long> featureIds);
+}
@@ -0,0 +1,10 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.Board;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface BoardRepository extends JpaRepository<Board, Long> {
+    Optional<Board> findBySlug(String slug);
+}
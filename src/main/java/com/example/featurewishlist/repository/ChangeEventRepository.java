@@ -0,0 +1,35 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.ChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    // Committete, noch nicht weitergereichte Ereignisse (nicht committete sind für den Relay unsichtbar)
+    List<ChangeEvent> findBySeqIsNullOrderByIdAsc(Pageable pageable);
+
+    // Nachholen aus der DB, begrenzt auf den bereits weitergereichten Stand
+    List<ChangeEvent> findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(Long afterSeq, Long upToSeq,
+                                                                           Pageable pageable);
+
+    @Query("select coalesce(max(e.seq), 0) from ChangeEvent e")
+    long findMaxSeq();
+
+    // Ältestes noch vorhandenes Ereignis; null, wenn alle gelöscht sind
+    @Query("select min(e.seq) from ChangeEvent e")
+    Long findMinSeq();
+
+    // Nur weitergereichte Ereignisse; noch nicht sequenzierte bleiben für den Relay stehen
+    @Transactional
+    @Modifying
+    @Query("delete from ChangeEvent e where e.createdAt < :cutoff and e.seq is not null")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,90 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.FeatureSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// Abgeschlossene Features liegen teils noch in der aktiven Tabelle, teils im Archiv. Beide Quellen
+// werden per UNION ALL zusammengeführt und erst dann sortiert und geblättert, damit Sortierung und
+// Offset über die Grenze hinweg stimmen. Sortiert wird nur nach den Spalten aus SORT_COLUMNS.
+@Repository
+public class ClosedFeatureSummaryRepository {
+
+    // Sortier-Properties der Grids (FeatureSummary/FeatureRequest) → Spalten der UNION
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "category", "category",
+            "status", "status",
+            "createdAt", "created_at",
+            "voteCount", "vote_count",
+            "rankScore", "rank_score");
+
+    // Spalten: id, title, description_preview, category, status, created_at, ticket_url, vote_count,
+    // rank_score, archived (Namen aus dem ersten Zweig)
+    private static final String UNION = "select u.* from ("
+            + "select f.id, f.title, f.description_preview, f.category, f.status, f.created_at, f.ticket_url, "
+            + "f.vote_count, f.rank_score, false as archived "
+            + "from feature_request f where f.board_id = :boardId and f.status = :status "
+            + "union all "
+            + "select a.id, a.title, a.description_preview, a.category, a.status, a.created_at, a.ticket_url, "
+            + "a.final_vote_count, a.rank_score, true "
+            + "from archived_feature_request a where a.board_id = :boardId and a.status = :status"
+            + ") u ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<FeatureSummary> findSummaries(Long boardId, FeatureStatus status, Pageable page) {
+        List<?> rows = entityManager.createNativeQuery(UNION + orderBy(page.getSort())
+                        + " offset :offset rows fetch next :limit rows only")
+                .setParameter("boardId", boardId)
+                .setParameter("status", status.name())
+                .setParameter("offset", page.getOffset())
+                .setParameter("limit", page.getPageSize())
+                .getResultList();
+        return rows.stream().map(row -> toSummary((Object[]) row)).toList();
+    }
+
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", "order by ", "");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Nicht sortierbar: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " asc" : " desc"));
+        }
+        return orderBy.length() > "order by ".length() ? orderBy.toString() : "order by id desc";
+    }
+
+    private static FeatureSummary toSummary(Object[] row) {
+        return new FeatureSummary(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                row[4] != null ? FeatureStatus.valueOf(row[4].toString()) : null,
+                toLocalDateTime(row[5]),
+                (String) row[6],
+                ((Number) row[7]).longValue(),
+                (Boolean) row[9]);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.featurewishlist.repository;
+
+// Projektion für den Nachtrag der Beschreibungsvorschau
+public interface DescriptionPreviewInput {
+    Long getId();
+
+    String getDescription();
+}
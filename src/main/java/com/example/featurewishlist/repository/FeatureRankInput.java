@@ -0,0 +1,18 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.FeatureStatus;
+
+import java.time.LocalDateTime;
+
+// Projektion mit den Eingangsgrößen des Ranking-Werts
+public interface FeatureRankInput {
+    Long getId();
+
+    Long getBoardId();
+
+    long getVoteCount();
+
+    FeatureStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,7 +1,133 @@
 package com.example.featurewishlist.repository;
 
+import com.example.featurewishlist.model.Board;
 import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.FeatureSummary;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface FeatureRequestRepository extends JpaRepository<FeatureRequest, Long> {
+
+    // Seitenweise Abfragen für die Grids (ORDER BY rankScore … LIMIT über den Index).
+    // Liefern DTOs statt Entities: keine Beschreibung, kein Dirty-Checking.
+    @Query("select new com.example.featurewishlist.model.FeatureSummary(f.id, f.title, f.descriptionPreview, "
+            + "f.category, f.status, f.createdAt, f.ticketUrl, f.voteCount, false) "
+            + "from FeatureRequest f where f.board.id = :boardId")
+    List<FeatureSummary> findSummaries(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("select new com.example.featurewishlist.model.FeatureSummary(f.id, f.title, f.descriptionPreview, "
+            + "f.category, f.status, f.createdAt, f.ticketUrl, f.voteCount, false) "
+            + "from FeatureRequest f where f.board.id = :boardId and f.status = :status")
+    List<FeatureSummary> findSummariesByStatus(@Param("boardId") Long boardId, @Param("status") FeatureStatus status,
+                                               Pageable pageable);
+
+    // Volle Beschreibung nur auf Anforderung (Detail-Dialog)
+    @Query("select f.description from FeatureRequest f where f.id = :id")
+    Optional<String> findDescriptionById(@Param("id") Long id);
+
+    // Aktueller Status mehrerer Features: [id, status]
+    @Query("select f.id, f.status from FeatureRequest f where f.id in :ids")
+    List<Object[]> findStatuses(@Param("ids") Collection<Long> ids);
+
+    // Liest den aktuell gespeicherten Status (ohne die evtl. bereits geänderte Instanz zu laden)
+    @Query("select f.status from FeatureRequest f where f.id = :id")
+    Optional<FeatureStatus> findStatusById(@Param("id") Long id);
+
+    // Überschreibt keinen Link, den ein Admin inzwischen manuell gesetzt hat
+    @Transactional
+    @Modifying
+    @Query("update FeatureRequest f set f.ticketUrl = :url where f.id = :id and (f.ticketUrl is null or f.ticketUrl = '')")
+    int updateTicketUrlIfEmpty(@Param("id") Long id, @Param("url") String url);
+
+    // ---------- Ranking ----------
+
+    @Query("select f.id as id, f.board.id as boardId, f.voteCount as voteCount, f.status as status, "
+            + "f.createdAt as createdAt from FeatureRequest f where f.id = :id")
+    Optional<FeatureRankInput> findRankInputById(@Param("id") Long id);
+
+    @Query("select max(f.id) from FeatureRequest f")
+    Long findMaxId();
+
+    // Mengenbasierter Neuaufbau je Id-Bereich (from, to], eine Anweisung pro Formel bzw. Status
+    @Modifying
+    @Query("update FeatureRequest f set f.rankScore = f.voteCount where f.id > :from and f.id <= :to")
+    int rankByVotes(@Param("from") long from, @Param("to") long to);
+
+    @Modifying
+    @Query("update FeatureRequest f set f.rankScore = f.voteCount * :weight "
+            + "where f.status = :status and f.id > :from and f.id <= :to")
+    int rankByWeightedVotes(@Param("from") long from, @Param("to") long to,
+                            @Param("status") FeatureStatus status, @Param("weight") double weight);
+
+    @Modifying
+    @Query("update FeatureRequest f set f.rankScore = log10(f.voteCount + 1) "
+            + "+ (extract(epoch from coalesce(f.createdAt, :now)) - :epoch) / :decaySeconds "
+            + "where f.id > :from and f.id <= :to")
+    int rankByHot(@Param("from") long from, @Param("to") long to, @Param("now") LocalDateTime now,
+                  @Param("epoch") long epoch, @Param("decaySeconds") double decaySeconds);
+
+    @Modifying
+    @Query("update FeatureRequest f set f.voteCount = f.voteCount + :points where f.id = :id")
+    int addVotePoints(@Param("id") Long id, @Param("points") int points);
+
+    @Modifying
+    @Query("update FeatureRequest f set f.rankScore = :score where f.id = :id")
+    int updateRankScore(@Param("id") Long id, @Param("score") double score);
+
+    // Bestandsdaten aus der Zeit vor den Boards landen im Standard-Board
+    @Modifying
+    @Query("update FeatureRequest f set f.board = :board where f.board is null")
+    int assignBoardWhereMissing(@Param("board") Board board);
+
+    // Für Bestandsdaten ohne Vorschau; der Rest wird per @PrePersist/@PreUpdate gepflegt.
+    // Die Vorschau selbst berechnet FeatureRequest.preview(), siehe DescriptionPreviewBackfill.
+    @Query("select f.id as id, f.description as description from FeatureRequest f "
+            + "where f.descriptionPreview is null order by f.id")
+    List<DescriptionPreviewInput> findWithoutPreview(Pageable pageable);
+
+    @Modifying
+    @Query("update FeatureRequest f set f.descriptionPreview = :preview where f.id = :id")
+    int updateDescriptionPreview(@Param("id") Long id, @Param("preview") String preview);
+
+    // Abgleich der denormalisierten Punktesumme mit der Vote-Tabelle (z. B. nach Import/Migration)
+    @Modifying
+    @Query("update FeatureRequest f set f.voteCount = "
+            + "(select coalesce(sum(v.weight), 0) from Vote v where v.feature = f) "
+            + "where f.id > :from and f.id <= :to")
+    int recountVotes(@Param("from") long from, @Param("to") long to);
+
+    // Bestandsdaten aus der Zeit vor voteCount: Spalte per Default 0, obwohl Stimmen vorhanden sind
+    @Query("select case when count(f) > 0 then true else false end from FeatureRequest f where f.voteCount = 0 "
+            + "and exists (select 1 from Vote v where v.feature = f)")
+    boolean existsWithUncountedVotes();
+
+    // ---------- Archivierung ----------
+
+    // Sperrt die Kandidaten bis zum Ende des Batches: Statuswechsel und Stimmen (VoteService sperrt
+    // die Feature-Zeile vor dem Einfügen der Stimme) warten, bis die Archivierung committet ist
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f.id from FeatureRequest f where f.status in :statuses "
+            + "and coalesce(f.statusChangedAt, f.createdAt) < :cutoff order by f.id")
+    List<Long> lockIdsToArchive(@Param("statuses") Collection<FeatureStatus> statuses,
+                                @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Löscht nur, was weiterhin archivierbar ist und keine (nicht archivierten) Stimmen mehr hat
+    @Modifying
+    @Query("delete from FeatureRequest f where f.id in :ids and f.status in :statuses "
+            + "and coalesce(f.statusChangedAt, f.createdAt) < :cutoff "
+            + "and not exists (select 1 from Vote v where v.feature = f)")
+    int deleteArchived(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<FeatureStatus> statuses,
+                       @Param("cutoff") LocalDateTime cutoff);
 }
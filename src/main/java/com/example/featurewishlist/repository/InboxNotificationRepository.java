@@ -0,0 +1,22 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.InboxNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface InboxNotificationRepository extends JpaRepository<InboxNotification, Long> {
+
+    long countByVoterKeyAndReadAtIsNull(Integer voterKey);
+
+    List<InboxNotification> findByVoterKeyOrderByIdDesc(Integer voterKey, Pageable pageable);
+
+    @Modifying
+    @Query("update InboxNotification n set n.readAt = :now where n.voterKey = :voterKey and n.readAt is null")
+    int markAllRead(@Param("voterKey") Integer voterKey, @Param("now") LocalDateTime now);
+}
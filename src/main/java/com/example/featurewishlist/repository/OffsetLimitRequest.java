@@ -0,0 +1,67 @@
+package com.example.featurewishlist.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// Pageable mit beliebigem Offset (PageRequest kennt nur Vielfache der Seitengröße).
+// Wird gebraucht, wenn zwei Quellen (aktive Tabelle + Archiv) hintereinander geblättert werden.
+public record OffsetLimitRequest(long offset, int limit, Sort sort) implements Pageable {
+
+    // Wie PageRequest: ungültige Werte sofort ablehnen statt später durch 0 zu teilen
+    public OffsetLimitRequest {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset darf nicht negativ sein: " + offset);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit muss mindestens 1 sein: " + limit);
+        }
+        if (sort == null) {
+            throw new IllegalArgumentException("Sort darf nicht null sein");
+        }
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / limit);
+    }
+
+    @Override
+    public int getPageSize() {
+        return limit;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetLimitRequest(offset + limit, limit, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return hasPrevious() ? new OffsetLimitRequest(Math.max(0, offset - limit), limit, sort) : first();
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetLimitRequest(0, limit, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetLimitRequest((long) pageNumber * limit, limit, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.StatusChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StatusChangeEventRepository extends JpaRepository<StatusChangeEvent, Long> {
+    List<StatusChangeEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<StatusChangeEvent> findByIdBetweenOrderByIdAsc(Long from, Long to);
+
+    @Modifying
+    @Query("delete from StatusChangeEvent e where e.id <= :to")
+    int deleteUpTo(@Param("to") Long to);
+}
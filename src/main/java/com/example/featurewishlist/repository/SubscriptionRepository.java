@@ -0,0 +1,30 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.Subscription;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
+
+    // Abonnenten seitenweise nach Voter-Schlüssel (Keyset), damit der Digest in Blöcken committen kann
+    @Query("select distinct s.voter.id from Subscription s where s.feature.id in :featureIds "
+            + "and s.voter.id > :after order by s.voter.id")
+    List<Integer> findSubscriberKeys(@Param("featureIds") Collection<Long> featureIds, @Param("after") Integer after,
+                                     Pageable pageable);
+
+    // Abos eines Blocks von Votern in einer Abfrage: [voterKey, featureId]
+    @Query("select s.voter.id, s.feature.id from Subscription s "
+            + "where s.feature.id in :featureIds and s.voter.id in :voterKeys")
+    List<Object[]> findVoterFeaturePairs(@Param("featureIds") Collection<Long> featureIds,
+                                         @Param("voterKeys") Collection<Integer> voterKeys);
+
+    @Modifying
+    @Query("delete from Subscription s where s.feature.id in :featureIds")
+    int deleteByFeatureIds(@Param("featureIds") Collection<Long> featureIds);
+}
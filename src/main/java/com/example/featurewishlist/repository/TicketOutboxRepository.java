@@ -0,0 +1,17 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.OutboxStatus;
+import com.example.featurewishlist.model.TicketOutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketOutboxRepository extends JpaRepository<TicketOutboxEntry, Long> {
+    Optional<TicketOutboxEntry> findFirstByFeatureIdOrderByIdDesc(Long featureId);
+
+    List<TicketOutboxEntry> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            OutboxStatus status, LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.VoteBudget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VoteBudgetRepository extends JpaRepository<VoteBudget, Integer> {
+
+    // Bedingte Abbuchung in einem Statement: kein Lesen-Ändern-Schreiben, keine Sperre in der Anwendung.
+    // Liefert 0, wenn das Guthaben nicht reicht (oder noch kein Konto existiert).
+    @Modifying
+    @Query("update VoteBudget b "
+            + "set b.balance = (case when b.period = :period then b.balance else :budget end) - :points, "
+            + "b.period = :period "
+            + "where b.voterKey = :voterKey "
+            + "and (case when b.period = :period then b.balance else :budget end) >= :points")
+    int debit(@Param("voterKey") Integer voterKey, @Param("points") int points,
+              @Param("period") String period, @Param("budget") int budget);
+
+    // Legt das Konto mit vollem Budget an, falls es fehlt (Voter aus der Zeit vor den Budgets)
+    @Modifying
+    @Query("insert into VoteBudget (voterKey, balance, period) "
+            + "select x.id, :budget, :period from Voter x where x.id = :voterKey "
+            + "and not exists (select 1 from VoteBudget b where b.voterKey = :voterKey)")
+    int openIfMissing(@Param("voterKey") Integer voterKey, @Param("period") String period,
+                      @Param("budget") int budget);
+}
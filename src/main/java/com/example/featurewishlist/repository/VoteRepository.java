@@ -3,14 +3,34 @@ package com.example.featurewishlist.repository;
 import com.example.featurewishlist.model.Vote;
 import com.example.featurewishlist.model.FeatureRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
     long countByFeature(FeatureRequest feature);
 
-    Optional<Vote> findByFeatureIdAndVoterId(Long featureId, String voterId);
+    @Query("select count(v) > 0 from Vote v where v.feature.id = :featureId and v.voter.id = :voterKey")
+    boolean existsByFeatureIdAndVoterKey(@Param("featureId") Long featureId, @Param("voterKey") Integer voterKey);
 
-    List<Vote> findByVoterId(String voterId);
+    @Query("select v from Vote v where v.feature.id = :featureId and v.voter.id = :voterKey")
+    Optional<Vote> findByFeatureIdAndVoterKey(@Param("featureId") Long featureId, @Param("voterKey") Integer voterKey);
+
+    @Query("select v from Vote v where v.voter.id = :voterKey")
+    List<Vote> findByVoterKey(@Param("voterKey") Integer voterKey);
+
+    // Weitere Punkte auf eine bestehende Stimme; 0 = der Voter hat für das Feature noch nicht gestimmt
+    @Modifying
+    @Query("update Vote v set v.weight = v.weight + :points where v.feature.id = :featureId and v.voter.id = :voterKey")
+    int addWeight(@Param("featureId") Long featureId, @Param("voterKey") Integer voterKey, @Param("points") int points);
+
+    // Löscht nur Stimmen, von denen es bereits eine archivierte Kopie gibt
+    @Modifying
+    @Query("delete from Vote v where v.feature.id in :featureIds "
+            + "and exists (select 1 from ArchivedVote a where a.id = v.id)")
+    int deleteArchivedByFeatureIds(@Param("featureIds") Collection<Long> featureIds);
 }
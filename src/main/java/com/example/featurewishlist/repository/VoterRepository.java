@@ -0,0 +1,11 @@
+package com.example.featurewishlist.repository;
+
+import com.example.featurewishlist.model.Voter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface VoterRepository extends JpaRepository<Voter, Integer> {
+    Optional<Voter> findByUuid(UUID uuid);
+}
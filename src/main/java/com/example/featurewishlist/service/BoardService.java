@@ -0,0 +1,133 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.Board;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.BoardRepository;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Boards (eine Wunschliste je Produkt). Boards ändern sich praktisch nie und werden deshalb
+// pro Slug im Speicher gehalten – begrenzt in Anzahl und Alter, damit Änderungen in der DB
+// (Umbenennen, Löschen) nach spätestens cache-ttl-seconds sichtbar werden. Alles Weitere ist
+// nach board_id partitioniert.
+@Slf4j
+@Service
+public class BoardService {
+
+    private final BoardRepository boardRepository;
+    private final FeatureRequestRepository featureRepository;
+    private final ArchivedFeatureRequestRepository archivedFeatureRepository;
+    private final TransactionTemplate requiresNew;
+    private final Map<String, CachedBoard> bySlug = new ConcurrentHashMap<>();
+
+    @Value("${app.boards.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.boards.cache-max-entries:1000}")
+    private int cacheMaxEntries;
+
+    @Value("${app.boards.default-slug:default}")
+    private String defaultSlug;
+
+    @Value("${app.boards.default-name:Feature-Wünsche}")
+    private String defaultName;
+
+    // Weitere Boards als "slug=Name,slug2=Name 2"
+    @Value("${app.boards.initial:}")
+    private List<String> initialBoards;
+
+    public BoardService(BoardRepository boardRepository, FeatureRequestRepository featureRepository,
+                        ArchivedFeatureRequestRepository archivedFeatureRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.featureRepository = featureRepository;
+        this.archivedFeatureRepository = archivedFeatureRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Board defaultBoard() {
+        return findBySlug(defaultSlug).orElseGet(() -> create(defaultSlug, defaultName));
+    }
+
+    // Leerer Slug = Standard-Board
+    public Optional<Board> resolve(String slug) {
+        return slug == null || slug.isBlank() ? Optional.of(defaultBoard()) : findBySlug(slug);
+    }
+
+    public Optional<Board> findBySlug(String slug) {
+        CachedBoard cached = bySlug.get(slug);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < TimeUnit.SECONDS.toNanos(cacheTtlSeconds)) {
+            return Optional.of(cached.board());
+        }
+        Optional<Board> board = boardRepository.findBySlug(slug);
+        board.ifPresentOrElse(b -> cache(slug, b), () -> bySlug.remove(slug));
+        return board;
+    }
+
+    public boolean isDefault(Board board) {
+        return defaultSlug.equals(board.getSlug());
+    }
+
+    // Legt konfigurierte Boards an und hängt Bestandsfeatures ohne Board (aktiv und archiviert)
+    // an das Standard-Board
+    @EventListener(ApplicationReadyEvent.class)
+    public void provision() {
+        Board standard = defaultBoard();
+        for (String entry : initialBoards) {
+            String[] parts = entry.split("=", 2);
+            String slug = parts[0].trim();
+            if (!slug.isEmpty() && findBySlug(slug).isEmpty()) {
+                create(slug, parts.length > 1 ? parts[1].trim() : slug);
+            }
+        }
+        Integer assigned = requiresNew.execute(status -> featureRepository.assignBoardWhereMissing(standard));
+        Integer archived = requiresNew.execute(status ->
+                archivedFeatureRepository.assignBoardWhereMissing(standard.getId()));
+        if ((assigned != null && assigned > 0) || (archived != null && archived > 0)) {
+            log.info("📋 {} Bestandsfeatures und {} archivierte Features dem Board '{}' zugeordnet",
+                    assigned, archived, standard.getSlug());
+        }
+    }
+
+    // Eigene Transaktion: paralleles Anlegen desselben Slugs (Unique-Verletzung) reißt den Aufrufer nicht mit
+    private Board create(String slug, String name) {
+        try {
+            Board created = requiresNew.execute(status -> boardRepository.saveAndFlush(Board.builder()
+                    .slug(slug)
+                    .name(name)
+                    .createdAt(LocalDateTime.now())
+                    .build()));
+            cache(slug, created);
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            return findBySlug(slug).orElseThrow(() -> e);
+        }
+    }
+
+    // Einfache Obergrenze: bei Überlauf wird der Cache geleert statt einzelne Einträge zu verdrängen
+    private void cache(String slug, Board board) {
+        if (bySlug.size() >= cacheMaxEntries && !bySlug.containsKey(slug)) {
+            bySlug.clear();
+        }
+        bySlug.put(slug, new CachedBoard(board, System.nanoTime()));
+    }
+
+    private record CachedBoard(Board board, long loadedAt) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.DescriptionPreviewInput;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Trägt fehlende Vorschauen für Bestandsdaten nach – in Features und Archiv. Berechnet wird in Java
+// mit FeatureRequest.preview(), damit die Regel (trim, Kürzung mit "…") nur an einer Stelle steht.
+@Slf4j
+@Component
+public class DescriptionPreviewBackfill {
+
+    private final FeatureRequestRepository featureRepository;
+    private final ArchivedFeatureRequestRepository archivedFeatureRepository;
+    private final TransactionTemplate tx;
+
+    @Value("${app.preview.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    public DescriptionPreviewBackfill(FeatureRequestRepository featureRepository,
+                                      ArchivedFeatureRequestRepository archivedFeatureRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.featureRepository = featureRepository;
+        this.archivedFeatureRepository = archivedFeatureRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int features = backfill(featureRepository::findWithoutPreview, featureRepository::updateDescriptionPreview);
+        int archived = backfill(archivedFeatureRepository::findWithoutPreview,
+                archivedFeatureRepository::updateDescriptionPreview);
+        if (features + archived > 0) {
+            log.info("Beschreibungsvorschau nachgetragen: {} Features, {} archivierte Features", features, archived);
+        }
+    }
+
+    // Jeder Block in eigener Transaktion; bearbeitete Zeilen haben danach eine Vorschau (ggf. ""),
+    // daher liefert die nächste Abfrage wieder ab Seite 0 die noch offenen Zeilen
+    private int backfill(Function<PageRequest, List<DescriptionPreviewInput>> find,
+                         BiFunction<Long, String, Integer> update) {
+        int total = 0;
+        int done;
+        do {
+            Integer n = tx.execute(status -> {
+                List<DescriptionPreviewInput> rows = find.apply(PageRequest.of(0, chunkSize));
+                rows.forEach(row -> update.apply(row.getId(), FeatureRequest.preview(row.getDescription())));
+                return rows.size();
+            });
+            done = n != null ? n : 0;
+            total += done;
+        } while (done == chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.ArchivedVoteRepository;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.SubscriptionRepository;
+import com.example.featurewishlist.repository.VoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+// Verschiebt abgeschlossene Features (COMPLETED/REJECTED) samt Stimmen ins Archiv,
+// damit Feature- und Vote-Tabelle nur den "heißen" Bestand enthalten.
+@Slf4j
+@Component
+public class FeatureArchiver {
+
+    private static final Set<FeatureStatus> CLOSED = FeatureStatus.closed();
+
+    private final FeatureRequestRepository featureRepository;
+    private final VoteRepository voteRepository;
+    private final ArchivedFeatureRequestRepository archivedFeatureRepository;
+    private final ArchivedVoteRepository archivedVoteRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher events;
+
+    @Value("${app.archive.min-age-days:30}")
+    private int minAgeDays;
+
+    @Value("${app.archive.batch-size:100}")
+    private int batchSize;
+
+    public FeatureArchiver(FeatureRequestRepository featureRepository, VoteRepository voteRepository,
+                           ArchivedFeatureRequestRepository archivedFeatureRepository,
+                           ArchivedVoteRepository archivedVoteRepository,
+                           SubscriptionRepository subscriptionRepository,
+                           PlatformTransactionManager transactionManager, ApplicationEventPublisher events) {
+        this.featureRepository = featureRepository;
+        this.voteRepository = voteRepository;
+        this.archivedFeatureRepository = archivedFeatureRepository;
+        this.archivedVoteRepository = archivedVoteRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.events = events;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.poll-ms:3600000}", initialDelayString = "${app.archive.initial-delay-ms:60000}")
+    public void archiveClosedFeatures() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        int total = 0;
+        int moved;
+        do {
+            // Eine Transaktion pro Batch: kurze Sperren, Fortschritt bleibt bei Abbruch erhalten
+            try {
+                Integer n = tx.execute(status -> archiveBatch(cutoff));
+                moved = n != null ? n : 0;
+            } catch (InconsistentBatchException e) {
+                // Batch wurde zurückgerollt; beim nächsten Lauf erneut versuchen
+                log.warn("Archivierung abgebrochen: {}", e.getMessage());
+                break;
+            }
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            events.publishEvent(WishlistChangedEvent.allBoards());
+            log.info("{} abgeschlossene Features archiviert", total);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        // Die Zeilen bleiben bis zum Commit gesperrt; Kopieren und Löschen prüfen Status/Stichtag zusätzlich.
+        // Weicht eine Anzahl ab, wird der ganze Batch zurückgerollt – nie halb archiviert.
+        List<Long> ids = featureRepository.lockIdsToArchive(CLOSED, cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int copied = archivedFeatureRepository.copyFromFeatures(ids, CLOSED, cutoff, now);
+        if (copied != ids.size()) {
+            throw new InconsistentBatchException(copied + " von " + ids.size() + " Features noch archivierbar");
+        }
+        archivedVoteRepository.copyFromVotes(ids);
+        voteRepository.deleteArchivedByFeatureIds(ids);
+        // Nach der Archivierung gibt es keine Statuswechsel mehr, denen man folgen könnte
+        subscriptionRepository.deleteByFeatureIds(ids);
+        int deleted = featureRepository.deleteArchived(ids, CLOSED, cutoff);
+        if (deleted != ids.size()) {
+            throw new InconsistentBatchException(ids.size() - deleted + " Features mit neuen, nicht archivierten Stimmen");
+        }
+        return ids.size();
+    }
+
+    private static class InconsistentBatchException extends RuntimeException {
+        InconsistentBatchException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.ClosedFeatureSummaryRepository;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.OffsetLimitRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+// Lesezugriffe für die Grids, immer auf ein Board beschränkt. Standardmäßig nur der aktive Bestand;
+// das Archiv wird nur angefragt, wenn nach einem abgeschlossenen Status gefiltert wird.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeatureQueryService {
+
+    private final FeatureRequestRepository repository;
+    private final ArchivedFeatureRequestRepository archivedRepository;
+    private final ClosedFeatureSummaryRepository closedRepository;
+
+    public List<FeatureSummary> findPage(Long boardId, FeatureStatus status, int offset, int limit, Sort sort) {
+        Sort effective = withDefaults(sort);
+        if (status == null) {
+            return repository.findSummaries(boardId, new OffsetLimitRequest(offset, limit, effective));
+        }
+        if (!status.isClosed()) {
+            return repository.findSummariesByStatus(boardId, status, new OffsetLimitRequest(offset, limit, effective));
+        }
+
+        // Abgeschlossene: noch nicht archivierte und Archiv gemeinsam sortiert und geblättert
+        return closedRepository.findSummaries(boardId, status, new OffsetLimitRequest(offset, limit, effective));
+    }
+
+    // Volle Beschreibung für den Detail-Dialog
+    public String loadDescription(FeatureSummary summary) {
+        Optional<String> description = summary.archived()
+                ? archivedRepository.findDescriptionById(summary.id())
+                : repository.findDescriptionById(summary.id());
+        return description.orElse("");
+    }
+
+    // Vollständige Entity zum Bearbeiten (nur aktiver Bestand)
+    public Optional<FeatureRequest> findForEdit(Long id) {
+        return repository.findById(id);
+    }
+
+    // Standard: höchster rankScore zuerst; id als stabiler Tiebreaker fürs Paging
+    private static Sort withDefaults(Sort sort) {
+        Sort s = sort == null || sort.isUnsorted() ? Sort.by(Sort.Order.desc("rankScore")) : sort;
+        return s.and(Sort.by(Sort.Order.desc("id")));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.OutboxStatus;
+import com.example.featurewishlist.model.TicketOutboxEntry;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.TicketOutboxRepository;
+import com.example.featurewishlist.service.events.ChangeEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class FeatureService {
+
+    private final FeatureRequestRepository repository;
+    private final TicketOutboxRepository outboxRepository;
+    private final RankingService rankingService;
+    private final NotificationService notificationService;
+    private final BoardService boardService;
+    private final ChangeEventService changeEvents;
+    private final Clock clock;
+
+    // Speichert das Feature; beim Wechsel nach IN_PROGRESS wird in derselben Transaktion
+    // ein Outbox-Eintrag für die Ticket-Anlage geschrieben (kein Aufruf des Ticketsystems hier).
+    @Transactional
+    public FeatureRequest save(FeatureRequest feature) {
+        FeatureStatus previous = feature.getId() != null
+                ? repository.findStatusById(feature.getId()).orElse(null)
+                : null;
+        return save(feature, previous);
+    }
+
+    // Statuswechsel direkt aus dem Grid (dort liegt nur die Listenzeile vor, keine Entity)
+    @Transactional
+    public void changeStatus(Long featureId, FeatureStatus status) {
+        FeatureRequest feature = repository.findById(featureId)
+                .orElseThrow(() -> new IllegalArgumentException("Feature " + featureId + " nicht gefunden"));
+        FeatureStatus previous = feature.getStatus();
+        feature.setStatus(status);
+        save(feature, previous);
+    }
+
+    private FeatureRequest save(FeatureRequest feature, FeatureStatus previous) {
+        if (feature.getBoard() == null) {
+            feature.setBoard(boardService.defaultBoard());
+        }
+        if (feature.getStatus() != previous) {
+            feature.setStatusChangedAt(LocalDateTime.now(clock));
+        }
+        boolean created = feature.getId() == null;
+        FeatureRequest saved = repository.save(feature);
+        changeEvents.featureSaved(saved, created);
+        // Hot-Score hängt am Erstelldatum, der gewichtete Score am Status
+        rankingService.refresh(saved.getId());
+
+        if (saved.getStatus() == FeatureStatus.IN_PROGRESS && previous != FeatureStatus.IN_PROGRESS) {
+            enqueueTicket(saved);
+        }
+        if (!created && saved.getStatus() != previous) {
+            // Abonnenten werden asynchron per Digest informiert; ein fehlender Altstatus (null) zählt als Wechsel
+            notificationService.enqueueStatusChange(saved);
+        }
+        return saved;
+    }
+
+    // Vom Outbox-Dispatcher: Ticket-Link setzen (nur wenn noch keiner existiert) und als Änderung melden
+    @Transactional
+    public boolean linkTicket(Long featureId, String url) {
+        if (repository.updateTicketUrlIfEmpty(featureId, url) == 0) {
+            return false;
+        }
+        repository.findById(featureId).ifPresent(feature -> changeEvents.featureSaved(feature, false));
+        return true;
+    }
+
+    // Eine Outbox-Zeile pro Feature. Ist sie FAILED, wird sie mit demselben Key erneut eingereiht
+    // (das Ticketsystem erkennt einen evtl. doch angelegten Vorgang wieder). War sie DONE, wurde der
+    // Ticket-Link inzwischen entfernt: dann gibt es eine neue Generation und damit ein neues Ticket.
+    private void enqueueTicket(FeatureRequest feature) {
+        if (feature.getTicketUrl() != null && !feature.getTicketUrl().isBlank()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Optional<TicketOutboxEntry> existing = outboxRepository.findFirstByFeatureIdOrderByIdDesc(feature.getId());
+        if (existing.isEmpty()) {
+            outboxRepository.save(TicketOutboxEntry.builder()
+                    .featureId(feature.getId())
+                    .idempotencyKey(ticketKey(feature.getId(), 0))
+                    .generation(0)
+                    .status(OutboxStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+            return;
+        }
+        TicketOutboxEntry entry = existing.get();
+        switch (entry.getStatus()) {
+            case PENDING -> {
+                // läuft bereits
+            }
+            case FAILED -> requeue(entry, entry.getGeneration(), now);
+            case DONE -> requeue(entry, entry.getGeneration() + 1, now);
+        }
+    }
+
+    private void requeue(TicketOutboxEntry entry, int generation, LocalDateTime now) {
+        entry.setGeneration(generation);
+        entry.setIdempotencyKey(ticketKey(entry.getFeatureId(), generation));
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(now);
+        entry.setLastError(null);
+        entry.setTicketUrl(null);
+        outboxRepository.save(entry);
+    }
+
+    static String ticketKey(Long featureId, int generation) {
+        String key = "feature-" + featureId + "-ticket";
+        return generation == 0 ? key : key + "-" + generation;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.InboxNotification;
+import com.example.featurewishlist.model.StatusChangeEvent;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.InboxNotificationRepository;
+import com.example.featurewishlist.repository.StatusChangeEventRepository;
+import com.example.featurewishlist.repository.SubscriptionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Verteilt aufgelaufene Statuswechsel an die Abonnenten. Mehrere Wechsel pro Voter werden zu
+// einer Digest-Nachricht zusammengefasst; pro Feature zählt nur der letzte Status, und nur, wenn das
+// Feature ihn noch hat (ein Wechsel zurück nach OPEN wird nicht eingereiht, hebt die Meldung aber auf).
+//
+// Ein Batch von Events wird in Blöcken von Abonnenten zugestellt, jeder Block in eigener Transaktion.
+// Fortschritt (batchEnd, voterCursor) steht am ersten Event des Batches und wird mit jedem Block
+// committet; nach einem Abbruch geht es beim nächsten Voter weiter, ohne doppelte Nachrichten.
+@Slf4j
+@Component
+public class NotificationDigestJob {
+
+    private final StatusChangeEventRepository eventRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final InboxNotificationRepository inboxRepository;
+    private final FeatureRequestRepository featureRepository;
+    private final Clock clock;
+    private final TransactionTemplate tx;
+
+    @Value("${app.notifications.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.notifications.chunk-size:500}")
+    private int chunkSize;
+
+    public NotificationDigestJob(StatusChangeEventRepository eventRepository,
+                                 SubscriptionRepository subscriptionRepository,
+                                 InboxNotificationRepository inboxRepository,
+                                 FeatureRequestRepository featureRepository,
+                                 Clock clock,
+                                 PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.inboxRepository = inboxRepository;
+        this.featureRepository = featureRepository;
+        this.clock = clock;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.poll-ms:60000}")
+    public void deliver() {
+        Long head = tx.execute(status -> openBatch());
+        if (head == null) {
+            return;
+        }
+        int delivered = 0;
+        int voters;
+        do {
+            int[] chunk = tx.execute(status -> deliverChunk(head));
+            voters = chunk != null ? chunk[0] : 0;
+            delivered += chunk != null ? chunk[1] : 0;
+        } while (voters == chunkSize);
+        tx.executeWithoutResult(status -> closeBatch(head));
+        if (delivered > 0) {
+            log.info("{} Benachrichtigungen zugestellt", delivered);
+        }
+    }
+
+    // Legt die Grenzen des Batches am ersten Event fest (oder übernimmt die eines abgebrochenen Laufs)
+    private Long openBatch() {
+        List<StatusChangeEvent> events = eventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return null;
+        }
+        StatusChangeEvent head = events.get(0);
+        if (head.getBatchEnd() == null) {
+            head.setBatchEnd(events.get(events.size() - 1).getId());
+            head.setVoterCursor(0);
+        }
+        return head.getId();
+    }
+
+    // Liefert [bearbeitete Voter, erzeugte Nachrichten]
+    private int[] deliverChunk(Long headId) {
+        StatusChangeEvent head = eventRepository.findById(headId).orElseThrow();
+        Map<Long, StatusChangeEvent> latestByFeature = latestStillCurrent(
+                eventRepository.findByIdBetweenOrderByIdAsc(head.getId(), head.getBatchEnd()));
+        if (latestByFeature.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        List<Integer> voterKeys = subscriptionRepository.findSubscriberKeys(latestByFeature.keySet(),
+                head.getVoterCursor(), PageRequest.of(0, chunkSize));
+        if (voterKeys.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        Map<Integer, List<StatusChangeEvent>> byVoter = new TreeMap<>();
+        for (Object[] row : subscriptionRepository.findVoterFeaturePairs(latestByFeature.keySet(), voterKeys)) {
+            Integer voterKey = (Integer) row[0];
+            Long featureId = (Long) row[1];
+            byVoter.computeIfAbsent(voterKey, k -> new ArrayList<>()).add(latestByFeature.get(featureId));
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<InboxNotification> digests = new ArrayList<>(byVoter.size());
+        byVoter.forEach((voterKey, changes) -> digests.add(InboxNotification.builder()
+                .voterKey(voterKey)
+                .message(digest(changes))
+                .createdAt(now)
+                .build()));
+
+        // Batch-Inserts (hibernate.jdbc.batch_size); der Cursor wird in derselben Transaktion fortgeschrieben
+        inboxRepository.saveAll(digests);
+        head.setVoterCursor(voterKeys.get(voterKeys.size() - 1));
+        return new int[]{voterKeys.size(), digests.size()};
+    }
+
+    private void closeBatch(Long headId) {
+        eventRepository.findById(headId).ifPresent(head -> eventRepository.deleteUpTo(head.getBatchEnd()));
+    }
+
+    // Pro Feature nur der jüngste Wechsel (Events sind nach id, also zeitlich sortiert) – und nur, wenn
+    // das Feature diesen Status noch hat. Archivierte Features fehlen in der Abfrage und bleiben drin.
+    private Map<Long, StatusChangeEvent> latestStillCurrent(List<StatusChangeEvent> events) {
+        Map<Long, StatusChangeEvent> latestByFeature = new LinkedHashMap<>();
+        events.forEach(e -> latestByFeature.put(e.getFeatureId(), e));
+        if (latestByFeature.isEmpty()) {
+            return latestByFeature;
+        }
+        Map<Long, FeatureStatus> current = new HashMap<>();
+        for (Object[] row : featureRepository.findStatuses(latestByFeature.keySet())) {
+            current.put((Long) row[0], (FeatureStatus) row[1]);
+        }
+        latestByFeature.values().removeIf(e ->
+                current.containsKey(e.getFeatureId()) && current.get(e.getFeatureId()) != e.getNewStatus());
+        return latestByFeature;
+    }
+
+    private static String digest(List<StatusChangeEvent> changes) {
+        StringBuilder sb = new StringBuilder(changes.size() == 1
+                ? "Neuigkeit zu einem Wunsch, für den du gestimmt hast:"
+                : changes.size() + " Neuigkeiten zu Wünschen, für die du gestimmt hast:");
+        for (StatusChangeEvent c : changes) {
+            sb.append("\n• ").append(c.getFeatureTitle()).append(" → ").append(label(c.getNewStatus()));
+        }
+        return sb.length() <= 4000 ? sb.toString() : sb.substring(0, 3999) + "…";
+    }
+
+    private static String label(FeatureStatus status) {
+        return switch (status) {
+            case OPEN -> "Offen";
+            case IN_PROGRESS -> "In Arbeit";
+            case COMPLETED -> "Umgesetzt";
+            case REJECTED -> "Abgelehnt";
+        };
+    }
+}
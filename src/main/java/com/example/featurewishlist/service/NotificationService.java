@@ -0,0 +1,80 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.InboxNotification;
+import com.example.featurewishlist.model.StatusChangeEvent;
+import com.example.featurewishlist.model.Subscription;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.InboxNotificationRepository;
+import com.example.featurewishlist.repository.StatusChangeEventRepository;
+import com.example.featurewishlist.repository.SubscriptionRepository;
+import com.example.featurewishlist.repository.VoterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    // Über diese Statuswechsel werden Abonnenten informiert
+    private static final Set<FeatureStatus> NOTIFY_ON = EnumSet.of(FeatureStatus.IN_PROGRESS, FeatureStatus.COMPLETED);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final StatusChangeEventRepository eventRepository;
+    private final InboxNotificationRepository inboxRepository;
+    private final FeatureRequestRepository featureRepository;
+    private final VoterRepository voterRepository;
+    private final VoterService voterService;
+    private final Clock clock;
+
+    // Wird beim ersten Vote aufgerufen (ein Vote pro Voter und Feature, daher keine Dublettenprüfung)
+    @Transactional
+    public void subscribe(Long featureId, Integer voterKey) {
+        subscriptionRepository.save(Subscription.builder()
+                .feature(featureRepository.getReferenceById(featureId))
+                .voter(voterRepository.getReferenceById(voterKey))
+                .createdAt(LocalDateTime.now(clock))
+                .build());
+    }
+
+    // O(1) im Speicher-Pfad des Admins: nur ein Insert, unabhängig von der Zahl der Abonnenten
+    @Transactional
+    public void enqueueStatusChange(FeatureRequest feature) {
+        if (!NOTIFY_ON.contains(feature.getStatus())) {
+            return;
+        }
+        eventRepository.save(StatusChangeEvent.builder()
+                .featureId(feature.getId())
+                .featureTitle(feature.getTitle())
+                .newStatus(feature.getStatus())
+                .createdAt(LocalDateTime.now(clock))
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public long unreadCount(UUID voter) {
+        return voterService.findKey(voter)
+                .map(inboxRepository::countByVoterKeyAndReadAtIsNull)
+                .orElse(0L);
+    }
+
+    // Liefert die neuesten Benachrichtigungen und markiert alle als gelesen
+    @Transactional
+    public List<InboxNotification> openInbox(UUID voter, int limit) {
+        return voterService.findKey(voter).map(key -> {
+            List<InboxNotification> latest = inboxRepository.findByVoterKeyOrderByIdDesc(key, PageRequest.of(0, limit));
+            inboxRepository.markAllRead(key, LocalDateTime.now(clock));
+            return latest;
+        }).orElse(List.of());
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.RankingFormula;
+import com.example.featurewishlist.repository.FeatureRankInput;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Berechnet den persistierten rankScore eines Features. Der Wert wird bei jeder Stimme und
+// jedem Statuswechsel neu geschrieben, sodass die Liste direkt per ORDER BY rankScore sortiert.
+@Slf4j
+@Service
+public class RankingService {
+
+    // Bezugspunkt für den Hot-Score, hält die Zahlen klein
+    private static final long HOT_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private final FeatureRequestRepository repository;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate tx;
+
+    @Value("${app.ranking.formula:VOTES}")
+    private RankingFormula formula;
+
+    // Nach so vielen Stunden zählt ein neuer Wunsch so viel wie ein älterer mit 10x Stimmen
+    @Value("${app.ranking.hot-decay-hours:12.5}")
+    private double hotDecayHours;
+
+    // Erzwingt den Neuaufbau bei jedem Start, z. B. nach einem Formelwechsel. Bestandsdaten ohne
+    // voteCount (Upgrade) werden auch ohne diese Einstellung einmalig nachberechnet, siehe onStartup()
+    @Value("${app.ranking.recompute-on-startup:false}")
+    private boolean recomputeOnStartup;
+
+    @Value("${app.ranking.recompute-chunk-size:5000}")
+    private int chunkSize;
+
+    public RankingService(FeatureRequestRepository repository, ApplicationEventPublisher events,
+                          PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.events = events;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    // votes ist die Punktesumme (gewichtete Stimmen), siehe VoteBudgetService
+    public double score(long votes, FeatureStatus status, LocalDateTime createdAt) {
+        return switch (formula) {
+            case VOTES -> votes;
+            case HOT -> {
+                // log-skalierte Stimmen + Erstellzeit: wächst mit der Zeit für neue Einträge,
+                // ohne dass bestehende Werte periodisch neu berechnet werden müssen
+                LocalDateTime created = createdAt != null ? createdAt : LocalDateTime.now();
+                long seconds = created.toEpochSecond(ZoneOffset.UTC) - HOT_EPOCH;
+                yield Math.log10(votes + 1) + seconds / (hotDecayHours * 3600);
+            }
+            case STATUS_WEIGHTED -> votes * statusWeight(status);
+        };
+    }
+
+    // Schreibt den Score eines Features neu; erwartet eine laufende Transaktion.
+    // Läuft bei jeder Stimme und jedem Speichern, daher wird hier auch die Änderung des Boards gemeldet.
+    @Transactional
+    public void refresh(Long featureId) {
+        repository.findRankInputById(featureId).ifPresent(in -> {
+            repository.updateRankScore(featureId, score(in));
+            events.publishEvent(new WishlistChangedEvent(in.getBoardId()));
+        });
+    }
+
+    // Vollständiger Neuaufbau, z. B. nach Wechsel der Formel: mengenbasierte UPDATEs je Id-Bereich,
+    // jeder Bereich in eigener kurzer Transaktion (keine Zeile-für-Zeile-Updates, keine Großtransaktion)
+    public void recomputeAll() {
+        Long maxId = repository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        int chunks = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            long lower = from;
+            long upper = Math.min(from + chunkSize, maxId);
+            tx.executeWithoutResult(status -> recomputeRange(lower, upper));
+            chunks++;
+        }
+        events.publishEvent(WishlistChangedEvent.allBoards());
+        log.info("rankScore bis id {} in {} Bereichen neu berechnet (Formel {})", maxId, chunks, formula);
+    }
+
+    private void recomputeRange(long from, long to) {
+        repository.recountVotes(from, to);
+        switch (formula) {
+            case VOTES -> repository.rankByVotes(from, to);
+            case HOT -> repository.rankByHot(from, to, LocalDateTime.now(), HOT_EPOCH, hotDecayHours * 3600);
+            case STATUS_WEIGHTED -> {
+                // Gewicht 1.0 (auch ohne Status) für alle, danach die abweichenden Status
+                repository.rankByVotes(from, to);
+                for (FeatureStatus status : FeatureStatus.values()) {
+                    double weight = statusWeight(status);
+                    if (weight != 1.0) {
+                        repository.rankByWeightedVotes(from, to, status, weight);
+                    }
+                }
+            }
+        }
+    }
+
+    // voteCount und rankScore entstehen beim Upgrade per Spalten-Default mit 0; solange ein Feature
+    // mit Stimmen noch 0 hat, fehlt der Nachtrag. Danach hält refresh() die Werte aktuell.
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (recomputeOnStartup) {
+            recomputeAll();
+        } else if (repository.existsWithUncountedVotes()) {
+            log.info("Features mit Stimmen, aber ohne voteCount gefunden – einmaliger Neuaufbau");
+            recomputeAll();
+        }
+    }
+
+    private double score(FeatureRankInput in) {
+        return score(in.getVoteCount(), in.getStatus(), in.getCreatedAt());
+    }
+
+    private static double statusWeight(FeatureStatus status) {
+        if (status == null) return 1.0;
+        return switch (status) {
+            case OPEN -> 1.0;
+            case IN_PROGRESS -> 0.75;
+            case COMPLETED -> 0.25;
+            case REJECTED -> 0.0;
+        };
+    }
+}
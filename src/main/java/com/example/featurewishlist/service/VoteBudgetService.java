@@ -0,0 +1,80 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.VoteBudget;
+import com.example.featurewishlist.repository.VoteBudgetRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Punktebudget pro Voter und Quartal. Parallele Klicks desselben Voters konkurrieren nur um
+// das eine bedingte UPDATE auf seiner Kontozeile; die Datenbank entscheidet, wer noch Guthaben hat.
+@Service
+public class VoteBudgetService {
+
+    private final VoteBudgetRepository repository;
+    private final VoterService voterService;
+    private final Clock clock;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${app.votes.points-per-quarter:10}")
+    private int pointsPerQuarter;
+
+    public VoteBudgetService(VoteBudgetRepository repository, VoterService voterService, Clock clock,
+                             PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.voterService = voterService;
+        this.clock = clock;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // true, wenn die Punkte abgebucht wurden; läuft in der Transaktion der Stimmabgabe
+    @Transactional
+    public boolean tryDebit(Integer voterKey, int points) {
+        String period = currentPeriod();
+        if (repository.debit(voterKey, points, period, pointsPerQuarter) == 1) {
+            return true;
+        }
+        // Kein Konto: anlegen und erneut versuchen; sonst ist das Guthaben aufgebraucht
+        openIfMissing(voterKey, period);
+        return repository.debit(voterKey, points, period, pointsPerQuarter) == 1;
+    }
+
+    // Restguthaben im laufenden Quartal (volles Budget für unbekannte Voter oder ein neues Quartal)
+    @Transactional(readOnly = true)
+    public int remaining(UUID voterUuid) {
+        String period = currentPeriod();
+        return voterService.findKey(voterUuid)
+                .flatMap(repository::findById)
+                .filter(b -> period.equals(b.getPeriod()))
+                .map(VoteBudget::getBalance)
+                .orElse(pointsPerQuarter);
+    }
+
+    public int pointsPerQuarter() {
+        return pointsPerQuarter;
+    }
+
+    String currentPeriod() {
+        LocalDate today = LocalDate.now(clock);
+        return today.getYear() + "-Q" + ((today.getMonthValue() - 1) / 3 + 1);
+    }
+
+    // Eigene Transaktion: legen zwei erste Klicks eines neuen Voters das Konto gleichzeitig an,
+    // scheitert nur dieses Insert am Primärschlüssel – nicht die Stimmabgabe. Das Konto existiert danach.
+    private void openIfMissing(Integer voterKey, String period) {
+        try {
+            requiresNew.executeWithoutResult(status -> repository.openIfMissing(voterKey, period, pointsPerQuarter));
+        } catch (DataIntegrityViolationException e) {
+            // parallel angelegt
+        }
+    }
+}
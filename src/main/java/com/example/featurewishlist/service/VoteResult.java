@@ -0,0 +1,9 @@
+package com.example.featurewishlist.service;
+
+public enum VoteResult {
+    COUNTED,
+    // Punktebudget des Quartals aufgebraucht
+    BUDGET_EXHAUSTED,
+    // Feature wurde inzwischen archiviert
+    CLOSED
+}
@@ -0,0 +1,61 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.Vote;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.VoteRepository;
+import com.example.featurewishlist.repository.VoterRepository;
+import com.example.featurewishlist.service.events.ChangeEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class VoteService {
+
+    private final VoteRepository voteRepository;
+    private final FeatureRequestRepository featureRepository;
+    private final VoterRepository voterRepository;
+    private final VoterService voterService;
+    private final RankingService rankingService;
+    private final NotificationService notificationService;
+    private final VoteBudgetService budgetService;
+    private final ChangeEventService changeEvents;
+
+    // Jeder Klick vergibt einen Punkt aus dem Quartalsbudget des Voters.
+    private static final int POINTS_PER_CLICK = 1;
+
+    // Die Abbuchung ist ein bedingtes UPDATE; parallele erste Stimmen scheitern am Unique-Constraint
+    // (DataIntegrityViolationException), die Transaktion inkl. Abbuchung wird dann zurückgerollt.
+    @Transactional
+    public VoteResult vote(Long featureId, UUID voterUuid) {
+        Integer voterKey = voterService.resolveKey(voterUuid);
+        if (!budgetService.tryDebit(voterKey, POINTS_PER_CLICK)) {
+            return VoteResult.BUDGET_EXHAUSTED;
+        }
+        // Zuerst die Feature-Zeile: das Update sperrt sie bis zum Commit, sodass Stimme und Archivierung
+        // (FeatureArchiver sperrt dieselbe Zeile) sich nicht überholen können. 0 = bereits archiviert.
+        if (featureRepository.addVotePoints(featureId, POINTS_PER_CLICK) == 0) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return VoteResult.CLOSED;
+        }
+        boolean firstVote = voteRepository.addWeight(featureId, voterKey, POINTS_PER_CLICK) == 0;
+        if (firstVote) {
+            voteRepository.save(Vote.builder()
+                    .feature(featureRepository.getReferenceById(featureId))
+                    .voter(voterRepository.getReferenceById(voterKey))
+                    .votedAt(LocalDateTime.now())
+                    .weight(POINTS_PER_CLICK)
+                    .build());
+            // Wer abstimmt, folgt dem Feature automatisch
+            notificationService.subscribe(featureId, voterKey);
+        }
+        rankingService.refresh(featureId);
+        changeEvents.voteCast(featureId, POINTS_PER_CLICK, firstVote);
+        return VoteResult.COUNTED;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.Voter;
+import com.example.featurewishlist.repository.VoterRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class VoterService {
+
+    private final VoterRepository voterRepository;
+    private final TransactionTemplate requiresNew;
+
+    public VoterService(VoterRepository voterRepository, PlatformTransactionManager transactionManager) {
+        this.voterRepository = voterRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<Integer> findKey(UUID uuid) {
+        return voterRepository.findByUuid(uuid).map(Voter::getId);
+    }
+
+    // Liefert den Schlüssel zur Cookie-UUID und legt den Voter bei Bedarf an.
+    // Das Anlegen läuft in eigener Transaktion, damit ein paralleles Anlegen (Unique-Verletzung)
+    // die aufrufende Transaktion nicht mitreißt.
+    public Integer resolveKey(UUID uuid) {
+        Optional<Integer> existing = findKey(uuid);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        try {
+            return requiresNew.execute(status -> voterRepository.saveAndFlush(Voter.builder()
+                    .uuid(uuid)
+                    .firstSeenAt(LocalDateTime.now())
+                    .build()).getId());
+        } catch (DataIntegrityViolationException e) {
+            return findKey(uuid).orElseThrow(() -> e);
+        }
+    }
+}
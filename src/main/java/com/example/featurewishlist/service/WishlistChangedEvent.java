@@ -0,0 +1,10 @@
+package com.example.featurewishlist.service;
+
+// Features oder Punkte eines Boards haben sich geändert; boardId = null betrifft alle Boards.
+// Wird nach dem Commit ausgewertet, z. B. zum Verwerfen der gecachten öffentlichen Seite.
+public record WishlistChangedEvent(Long boardId) {
+
+    public static WishlistChangedEvent allBoards() {
+        return new WishlistChangedEvent(null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.featurewishlist.service.events;
+
+import com.example.featurewishlist.model.ChangeEvent;
+import com.example.featurewishlist.model.ChangeEventType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+// Ein Ereignis so, wie es an SSE-Konsumenten geht; data ist der gespeicherte JSON-Payload.
+public record ChangeEventMessage(
+        long seq,
+        ChangeEventType type,
+        Long featureId,
+        LocalDateTime createdAt,
+        @JsonRawValue String data
+) {
+    public static ChangeEventMessage of(ChangeEvent event) {
+        return new ChangeEventMessage(event.getSeq(), event.getType(), event.getFeatureId(),
+                event.getCreatedAt(), event.getPayload());
+    }
+}
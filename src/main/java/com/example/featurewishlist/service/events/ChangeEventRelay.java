@@ -0,0 +1,207 @@
+package com.example.featurewishlist.service.events;
+
+import com.example.featurewishlist.model.ChangeEvent;
+import com.example.featurewishlist.repository.ChangeEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Vergibt die Sequenznummern des Änderungsstreams und reicht neue Ereignisse einmal zentral weiter
+// (statt einer DB-Abfrage pro Konsument). Die letzten liegen in einem begrenzten Ringpuffer; wer weiter
+// zurückliegt, wird seitenweise aus der DB nachversorgt.
+//
+// Die Nummer wird erst vergeben, wenn die Zeile committet und damit sichtbar ist: die Sequenz ist
+// lückenlos und in Commit-Reihenfolge, ein spät committendes Ereignis bekommt einfach die nächste Nummer.
+// Zurückgerollte Inserts tauchen nie auf und halten niemanden auf. Laufen mehrere Instanzen, liest jeder
+// Lauf zuerst in der DB nach, was andere inzwischen nummeriert haben, und übernimmt es, bevor er selbst
+// weiterzählt. Vergeben zwei gleichzeitig dieselbe Nummer, scheitert einer am Unique-Index auf seq und
+// übernimmt im nächsten Lauf die Ereignisse des anderen.
+@Slf4j
+@Component
+public class ChangeEventRelay {
+
+    private final ChangeEventRepository repository;
+    private final TransactionTemplate tx;
+    private final Set<ChangeEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Ring und Stände werden gemeinsam unter der Sperre auf ring geändert
+    private final Deque<ChangeEventMessage> ring = new ArrayDeque<>();
+    // Alles mit seq <= ringFloor liegt nicht (mehr) im Ring
+    private long ringFloor;
+    private long lastRelayedSeq;
+
+    // Eigene, begrenzte Sende-Threads: langsame SSE-Clients blockieren nie den gemeinsamen Task-Executor
+    private ThreadPoolTaskExecutor senders;
+
+    @Value("${app.events.buffer-size:1000}")
+    private int bufferSize;
+
+    @Value("${app.events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.events.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${app.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.events.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.events.sender-queue-capacity:1000}")
+    private int senderQueueCapacity;
+
+    public ChangeEventRelay(ChangeEventRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    // Weitergereicht wird erst ab dem Stand beim Start; ältere Ereignisse kommen aus der DB
+    @PostConstruct
+    void init() {
+        long max = repository.findMaxSeq();
+        synchronized (ring) {
+            ringFloor = max;
+            lastRelayedSeq = max;
+        }
+        senders = new ThreadPoolTaskExecutor();
+        senders.setCorePoolSize(senderThreads);
+        senders.setMaxPoolSize(senderThreads);
+        senders.setQueueCapacity(senderQueueCapacity);
+        senders.setThreadNamePrefix("sse-");
+        senders.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+    }
+
+    public long lastRelayedSeq() {
+        synchronized (ring) {
+            return lastRelayedSeq;
+        }
+    }
+
+    long ringFloor() {
+        synchronized (ring) {
+            return ringFloor;
+        }
+    }
+
+    // Kleinster Stand, ab dem ein Konsument lückenlos fortsetzen kann; ältere Ereignisse sind gelöscht
+    public long oldestResumableSeq() {
+        Long min = repository.findMinSeq();
+        return min != null ? min - 1 : lastRelayedSeq();
+    }
+
+    // Neuer Konsument ab since (exklusiv): holt zuerst nach, danach laufend
+    public SseEmitter subscribe(long since) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        ChangeEventSubscriber subscriber = new ChangeEventSubscriber(emitter, since, this, senders);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.wake();
+        return emitter;
+    }
+
+    void unsubscribe(ChangeEventSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.poll-ms:500}")
+    public synchronized void relay() {
+        List<ChangeEventMessage> accepted;
+        try {
+            accepted = tx.execute(status -> assignSequence());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Sequenznummern parallel von einer anderen Instanz vergeben, übernehme sie im nächsten Lauf");
+            return;
+        }
+        if (accepted == null || accepted.isEmpty()) {
+            return;
+        }
+        synchronized (ring) {
+            for (ChangeEventMessage message : accepted) {
+                if (ring.size() >= bufferSize) {
+                    ringFloor = ring.removeFirst().seq();
+                }
+                ring.addLast(message);
+            }
+            lastRelayedSeq = accepted.get(accepted.size() - 1).seq();
+        }
+        subscribers.forEach(ChangeEventSubscriber::wake);
+    }
+
+    // Übernimmt zuerst, was andere Instanzen seit dem letzten Lauf nummeriert haben; erst wenn der eigene
+    // Stand dem der DB entspricht, werden die committeten, noch offenen Ereignisse in id-Reihenfolge
+    // fortnummeriert. In den Ring kommen sie erst nach dem Commit; scheitert er, wird neu vergeben.
+    private List<ChangeEventMessage> assignSequence() {
+        long relayed = lastRelayedSeq();
+        List<ChangeEvent> numbered = repository.findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(
+                relayed, Long.MAX_VALUE, PageRequest.of(0, batchSize));
+        if (!numbered.isEmpty()) {
+            return numbered.stream().map(ChangeEventMessage::of).toList();
+        }
+        List<ChangeEvent> batch = repository.findBySeqIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        long seq = relayed;
+        List<ChangeEventMessage> messages = new ArrayList<>(batch.size());
+        for (ChangeEvent event : batch) {
+            event.setSeq(++seq);
+            messages.add(ChangeEventMessage.of(event));
+        }
+        return messages;
+    }
+
+    // Ereignisse mit seq > afterSeq (höchstens limit): aus dem Ring, falls er weit genug zurückreicht,
+    // sonst aus der DB – nie über den bereits weitergereichten Stand hinaus
+    List<ChangeEventMessage> eventsAfter(long afterSeq, int limit) {
+        long upTo;
+        synchronized (ring) {
+            if (afterSeq >= ringFloor) {
+                List<ChangeEventMessage> result = new ArrayList<>();
+                for (ChangeEventMessage message : ring) {
+                    if (message.seq() > afterSeq) {
+                        result.add(message);
+                        if (result.size() == limit) {
+                            break;
+                        }
+                    }
+                }
+                return result;
+            }
+            upTo = lastRelayedSeq;
+        }
+        return repository.findBySeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(afterSeq, upTo, PageRequest.of(0, limit))
+                .stream()
+                .map(ChangeEventMessage::of)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.prune-ms:3600000}", initialDelayString = "${app.events.prune-initial-delay-ms:60000}")
+    public void prune() {
+        int deleted = repository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("{} Änderungsereignisse älter als {} Tage gelöscht", deleted, retentionDays);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.featurewishlist.service.events;
+
+import com.example.featurewishlist.model.ChangeEvent;
+import com.example.featurewishlist.model.ChangeEventType;
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.repository.ChangeEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Schreibt Änderungsereignisse in der Transaktion des Aufrufers: ein Ereignis existiert
+// genau dann, wenn die zugehörige Änderung committet wurde.
+@Service
+@RequiredArgsConstructor
+public class ChangeEventService {
+
+    private final ChangeEventRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void featureSaved(FeatureRequest feature, boolean created) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", feature.getId());
+        data.put("boardId", feature.getBoard() != null ? feature.getBoard().getId() : null);
+        data.put("title", feature.getTitle());
+        data.put("descriptionPreview", FeatureRequest.preview(feature.getDescription()));
+        data.put("category", feature.getCategory());
+        data.put("status", feature.getStatus());
+        data.put("ticketUrl", feature.getTicketUrl());
+        data.put("createdAt", feature.getCreatedAt());
+        data.put("statusChangedAt", feature.getStatusChangedAt());
+        append(created ? ChangeEventType.FEATURE_CREATED : ChangeEventType.FEATURE_UPDATED, feature.getId(), data);
+    }
+
+    // Ohne Voter-Schlüssel: Konsumenten sehen nur, dass und wie viele Punkte vergeben wurden
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void voteCast(Long featureId, int points, boolean firstVote) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("featureId", featureId);
+        data.put("points", points);
+        data.put("firstVote", firstVote);
+        append(ChangeEventType.VOTE_CAST, featureId, data);
+    }
+
+    private void append(ChangeEventType type, Long featureId, Map<String, Object> data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Änderungsereignis nicht serialisierbar: " + type, e);
+        }
+        repository.save(ChangeEvent.builder()
+                .type(type)
+                .featureId(featureId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
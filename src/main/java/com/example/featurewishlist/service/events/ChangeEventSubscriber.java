@@ -0,0 +1,124 @@
+package com.example.featurewishlist.service.events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Ein verbundener SSE-Konsument mit eigenem Stand. Nachholen und Live-Betrieb laufen über dieselbe
+// Schleife (alles nach lastSent senden), daher gibt es weder Lücken noch Duplikate beim Übergang.
+//
+// Pro Konsument läuft höchstens ein Sendelauf, ohne Sperre: wer den Weckzähler von 0 erhöht, plant ihn ein;
+// Weckrufe während des Laufs führen zu einem weiteren Lauf. Ein Lauf sendet höchstens PAGES_PER_RUN Seiten
+// und gibt den Thread dann frei. Wer im Live-Betrieb aus dem Ring fällt, wird getrennt und holt nach dem
+// Reconnect (Last-Event-ID) aus der DB nach, statt einen Sende-Thread dauerhaft zu belegen.
+@Slf4j
+class ChangeEventSubscriber {
+
+    // Name des Ereignisses, nach dem ein Konsument seinen Stand neu laden muss (Lücke durch Aufbewahrung)
+    static final String RESET_EVENT = "RESET";
+
+    private static final int PAGE = 200;
+    private static final int PAGES_PER_RUN = 5;
+
+    private final SseEmitter emitter;
+    private final ChangeEventRelay relay;
+    private final Executor executor;
+    private final AtomicInteger wakeups = new AtomicInteger();
+    private volatile boolean closed;
+    // Nur im jeweils einzigen aktiven Lauf gelesen/geschrieben
+    private long lastSent;
+    private boolean live;
+
+    ChangeEventSubscriber(SseEmitter emitter, long since, ChangeEventRelay relay, Executor executor) {
+        this.emitter = emitter;
+        this.lastSent = since;
+        this.relay = relay;
+        this.executor = executor;
+    }
+
+    void wake() {
+        if (!closed && wakeups.getAndIncrement() == 0) {
+            submit();
+        }
+    }
+
+    private void submit() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            close("Sende-Warteschlange voll");
+        }
+    }
+
+    private void drain() {
+        if (closed) {
+            return;
+        }
+        int seen = wakeups.get();
+        try {
+            if (sendAvailable()) {
+                submit(); // weitere Seiten im nächsten Lauf
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Verbindung weg oder Emitter bereits abgeschlossen; der Client setzt per Last-Event-ID wieder auf
+            log.debug("SSE-Konsument getrennt bei seq {}: {}", lastSent, e.getMessage());
+            closed = true;
+            relay.unsubscribe(this);
+            emitter.completeWithError(e);
+            return;
+        }
+        if (!closed && wakeups.addAndGet(-seen) != 0) {
+            submit();
+        }
+    }
+
+    // true, wenn nach PAGES_PER_RUN Seiten noch mehr vorliegt
+    private boolean sendAvailable() throws IOException {
+        for (int page = 0; page < PAGES_PER_RUN; page++) {
+            if (live && lastSent < relay.ringFloor()) {
+                close("zu langsam, aus dem Ringpuffer gefallen");
+                return false;
+            }
+            List<ChangeEventMessage> batch = relay.eventsAfter(lastSent, PAGE);
+            if (batch.isEmpty()) {
+                live = true;
+                return false;
+            }
+            for (ChangeEventMessage message : batch) {
+                if (message.seq() != lastSent + 1) {
+                    // Die Sequenz ist lückenlos; fehlt etwas, wurde es inzwischen gelöscht
+                    reset(message.seq() - 1);
+                    return false;
+                }
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(message.seq()))
+                        .name(message.type().name())
+                        .data(message, MediaType.APPLICATION_JSON));
+                lastSent = message.seq();
+            }
+        }
+        return true;
+    }
+
+    private void reset(long oldestResumable) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(RESET_EVENT)
+                .data(Map.of("lastSeq", lastSent, "oldestResumableSeq", oldestResumable), MediaType.APPLICATION_JSON));
+        close("Ereignisse nach seq " + lastSent + " nicht mehr vorhanden");
+    }
+
+    private void close(String reason) {
+        log.debug("SSE-Konsument bei seq {} getrennt: {}", lastSent, reason);
+        closed = true;
+        relay.unsubscribe(this);
+        emitter.complete();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.featurewishlist.service.ticket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lokaler Stub für Entwicklung und Tests: vergibt fortlaufende Keys (STUB-1, STUB-2, …)
+// und merkt sich die Zuordnung pro idempotencyKey. Aktiv, solange app.ticket.client=stub (Default).
+@Component
+@ConditionalOnProperty(name = "app.ticket.client", havingValue = "stub", matchIfMissing = true)
+public class LocalStubTicketClient implements TicketClient {
+
+    private final Map<String, String> ticketsByKey = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger failuresToSimulate = new AtomicInteger();
+
+    @Value("${app.ticket.stub-base-url:https://tickets.local/browse}")
+    private String baseUrl;
+
+    @Override
+    public String createTicket(TicketRequest request) {
+        if (failuresToSimulate.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new IllegalStateException("Simulierter Ausfall des Ticketsystems");
+        }
+        return ticketsByKey.computeIfAbsent(request.idempotencyKey(),
+                k -> baseUrl + "/STUB-" + sequence.incrementAndGet());
+    }
+
+    // Für Tests: die nächsten n Aufrufe schlagen fehl
+    public void failNext(int n) {
+        failuresToSimulate.set(n);
+    }
+
+    public int createdTickets() {
+        return ticketsByKey.size();
+    }
+}
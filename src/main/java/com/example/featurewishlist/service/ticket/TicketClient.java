@@ -0,0 +1,10 @@
+package com.example.featurewishlist.service.ticket;
+
+// Anbindung an ein externes Ticketsystem (Jira, GitLab, …).
+// Implementierungen müssen idempotent bzgl. TicketRequest#idempotencyKey sein:
+// ein wiederholter Aufruf mit demselben Key liefert dasselbe Ticket statt ein neues anzulegen.
+public interface TicketClient {
+
+    // Legt das Ticket an und liefert dessen URL; Fehler werden als RuntimeException gemeldet.
+    String createTicket(TicketRequest request);
+}
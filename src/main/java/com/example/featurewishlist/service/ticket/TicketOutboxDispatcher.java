@@ -0,0 +1,108 @@
+package com.example.featurewishlist.service.ticket;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.OutboxStatus;
+import com.example.featurewishlist.model.TicketOutboxEntry;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.TicketOutboxRepository;
+import com.example.featurewishlist.service.FeatureService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Arbeitet fällige Outbox-Zeilen im Hintergrund ab, damit der Speichern-Klick
+// im Admin-Dialog nie auf das Ticketsystem warten muss.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketOutboxDispatcher {
+
+    private final TicketOutboxRepository outboxRepository;
+    private final FeatureRequestRepository featureRepository;
+    private final TicketClient ticketClient;
+    private final FeatureService featureService;
+
+    @Value("${app.ticket.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.ticket.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.ticket.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${app.ticket.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Scheduled(fixedDelayString = "${app.ticket.outbox.poll-ms:5000}")
+    public void dispatchDue() {
+        List<TicketOutboxEntry> batch;
+        do {
+            batch = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            for (TicketOutboxEntry entry : batch) {
+                try {
+                    dispatch(entry);
+                } catch (OptimisticLockingFailureException e) {
+                    // Eine andere Instanz war schneller – dank idempotencyKey kein Doppel-Ticket
+                    log.debug("Outbox-Eintrag {} bereits anderweitig verarbeitet", entry.getId());
+                }
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void dispatch(TicketOutboxEntry entry) {
+        Optional<FeatureRequest> feature = featureRepository.findById(entry.getFeatureId());
+        if (feature.isEmpty() || hasText(feature.get().getTicketUrl())) {
+            // Feature gelöscht oder Ticket inzwischen manuell verknüpft
+            entry.setStatus(OutboxStatus.DONE);
+            outboxRepository.save(entry);
+            return;
+        }
+
+        FeatureRequest fr = feature.get();
+        try {
+            String url = ticketClient.createTicket(new TicketRequest(
+                    entry.getIdempotencyKey(), fr.getId(), fr.getTitle(), fr.getDescription(), fr.getCategory()));
+            featureService.linkTicket(fr.getId(), url);
+            entry.setTicketUrl(url);
+            entry.setStatus(OutboxStatus.DONE);
+            entry.setLastError(null);
+        } catch (RuntimeException e) {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(truncate(String.valueOf(e.getMessage()), 1024));
+            if (attempts >= maxAttempts) {
+                entry.setStatus(OutboxStatus.FAILED);
+                log.warn("Ticket für Feature {} nach {} Versuchen aufgegeben: {}", fr.getId(), attempts, e.getMessage());
+            } else {
+                entry.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000));
+            }
+        }
+        outboxRepository.save(entry);
+    }
+
+    // Exponentielles Backoff mit Deckel und etwas Jitter, damit Wiederholungen nicht gleichzeitig anlaufen
+    private long backoffMillis(int attempts) {
+        long delay = backoffBaseMs << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, backoffMaxMs);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
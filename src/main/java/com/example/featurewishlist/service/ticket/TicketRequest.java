@@ -0,0 +1,10 @@
+package com.example.featurewishlist.service.ticket;
+
+public record TicketRequest(
+        String idempotencyKey,
+        Long featureId,
+        String title,
+        String description,
+        String category
+) {
+}
@@ -1,16 +1,18 @@
 package com.example.featurewishlist.view;
 
+import com.example.featurewishlist.model.Board;
 import com.example.featurewishlist.model.FeatureRequest;
 import com.example.featurewishlist.model.FeatureStatus;
-import com.example.featurewishlist.repository.FeatureRequestRepository;
-import com.example.featurewishlist.repository.VoteRepository;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.service.BoardService;
+import com.example.featurewishlist.service.FeatureQueryService;
+import com.example.featurewishlist.service.FeatureService;
 
 import com.vaadin.flow.component.Key;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.component.grid.GridSortOrder;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.icon.Icon;
@@ -22,79 +24,117 @@ import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.Binder;
-import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.data.validator.StringLengthValidator;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.NotFoundException;
+import com.vaadin.flow.router.OptionalParameter;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 
 import jakarta.annotation.security.RolesAllowed;
 
 import java.net.URI;
-import java.util.List;
+import java.util.Optional;
 
+// "/admin" verwaltet das Standard-Board, "/admin/{slug}" ein bestimmtes Board
 @Route("admin")
 @PageTitle("Admin – Features bearbeiten")
 @RolesAllowed("ADMIN")
-public class AdminFeatureView extends VerticalLayout {
-
-    private final FeatureRequestRepository repository;
-    private final VoteRepository voteRepository;
-    private final Grid<FeatureRequest> grid = new Grid<>(FeatureRequest.class, false);
-
-    public AdminFeatureView(FeatureRequestRepository repository, VoteRepository voteRepository) {
-        this.repository = repository;
-        this.voteRepository = voteRepository;
+public class AdminFeatureView extends VerticalLayout implements HasUrlParameter<String> {
+
+    private final FeatureQueryService queryService;
+    private final FeatureService featureService;
+    private final BoardService boardService;
+    private final Grid<FeatureSummary> grid = new Grid<>();
+    private final Select<FeatureStatus> statusFilter = new Select<>();
+    private final H3 title = new H3("Admin: Features verwalten");
+    private Board board;
+
+    public AdminFeatureView(FeatureQueryService queryService, FeatureService featureService,
+                            BoardService boardService) {
+        this.queryService = queryService;
+        this.featureService = featureService;
+        this.boardService = boardService;
 
         setSizeFull();
         setPadding(true);
         setSpacing(true);
 
-        add(new H3("Admin: Features verwalten"));
+        add(title);
+        configureFilter();
         configureGrid();
+    }
+
+    @Override
+    public void setParameter(BeforeEvent event, @OptionalParameter String slug) {
+        Optional<Board> resolved = boardService.resolve(slug);
+        if (resolved.isEmpty()) {
+            event.rerouteToError(NotFoundException.class, "Board '" + slug + "' existiert nicht");
+            return;
+        }
+        board = resolved.get();
+        title.setText("Admin: Features verwalten – " + board.getName());
         reload();
     }
 
+    private void configureFilter() {
+        statusFilter.setLabel("Status filtern");
+        statusFilter.setItems(FeatureStatus.values());
+        statusFilter.setEmptySelectionAllowed(true);
+        statusFilter.setPlaceholder("Alle (ohne Archiv)");
+        statusFilter.addValueChangeListener(e -> reload());
+        add(statusFilter);
+    }
+
     private void configureGrid() {
         grid.removeAllColumns();
         grid.setWidthFull();
-        grid.setAllRowsVisible(true);
         grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES, GridVariant.LUMO_WRAP_CELL_CONTENT);
 
         // Edit-Button pro Zeile (links fixiert)
         grid.addComponentColumn(fr -> {
             Button edit = new Button(new Icon(VaadinIcon.EDIT));
-            edit.getElement().setAttribute("title", "Feature bearbeiten");
-            edit.addClickListener(e -> openEditDialog(fr));
+            edit.getElement().setAttribute("title", fr.archived() ? "Archiviert (schreibgeschützt)" : "Feature bearbeiten");
+            edit.setEnabled(!fr.archived());
+            // Volle Entity (inkl. Beschreibung) erst beim Öffnen des Dialogs laden
+            edit.addClickListener(e -> queryService.findForEdit(fr.id()).ifPresentOrElse(
+                this::openEditDialog,
+                () -> {
+                    Notification.show("Feature existiert nicht mehr.");
+                    reload();
+                }));
             return edit;
-        }).setHeader("Aktion").setFrozen(true).setFlexGrow(0).setAutoWidth(true);
+        }).setHeader("Aktion").setKey("edit").setFrozen(true).setFlexGrow(0).setAutoWidth(true);
 
-        grid.addColumn(FeatureRequest::getTitle)
-            .setHeader("Titel").setSortable(true).setAutoWidth(true).setFlexGrow(2);
+        grid.addColumn(FeatureSummary::title)
+            .setHeader("Titel").setSortProperty("title").setAutoWidth(true).setFlexGrow(2);
 
-        grid.addColumn(FeatureRequest::getCategory)
-            .setHeader("Kategorie").setSortable(true).setAutoWidth(true);
+        grid.addColumn(FeatureSummary::category)
+            .setHeader("Kategorie").setSortProperty("category").setAutoWidth(true);
 
-        grid.addColumn(FeatureRequest::getStatus)
-            .setHeader("Status").setSortable(true).setAutoWidth(true);
+        grid.addColumn(FeatureSummary::status)
+            .setHeader("Status").setSortProperty("status").setAutoWidth(true);
 
-        // Votes-Spalte
-        grid.addColumn(fr -> voteRepository.countByFeature(fr))
-            .setHeader("Votes")
+        // Punkte-Spalte (gewichtete Stimmen)
+        grid.addColumn(FeatureSummary::voteCount)
+            .setHeader("Punkte")
             .setKey("votes")
-            .setComparator((a, b) -> Long.compare(
-                voteRepository.countByFeature(a), voteRepository.countByFeature(b)))
+            .setSortProperty("voteCount")
             .setAutoWidth(true);
 
-        grid.addColumn(FeatureRequest::getTicketUrl)
+        grid.addColumn(FeatureSummary::ticketUrl)
             .setHeader("Ticket-URL").setAutoWidth(true);
 
-        grid.addColumn(FeatureRequest::getCreatedAt)
-            .setHeader("Erstellt am").setSortable(true).setAutoWidth(true);
+        grid.addColumn(FeatureSummary::createdAt)
+            .setHeader("Erstellt am").setSortProperty("createdAt").setAutoWidth(true);
 
         // Zeilen-Highlight für offene Features
-        grid.setClassNameGenerator(fr -> fr.getStatus() == FeatureStatus.OPEN ? "status-open" : "");
+        grid.setClassNameGenerator(fr -> fr.status() == FeatureStatus.OPEN ? "status-open" : "");
 
         add(grid);
+        expand(grid);
 
         // CSS für linke farbige Kante bei offenen Features
         getElement().executeJs("""
@@ -182,7 +222,8 @@ public class AdminFeatureView extends VerticalLayout {
                 ticketUrl.setValue(base.endsWith("/") ? base + val : base + "/" + val);
             }
             if (binder.writeBeanIfValid(fr)) {
-                repository.save(fr);
+                // Ticket-Anlage läuft asynchron über die Outbox
+                featureService.save(fr);
                 Notification.show("Gespeichert");
                 dialog.close();
                 reload();
@@ -197,13 +238,12 @@ public class AdminFeatureView extends VerticalLayout {
     }
 
     private void reload() {
-        List<FeatureRequest> items = repository.findAll();
-        grid.setItems(items);
-
-        var votesCol = grid.getColumnByKey("votes");
-        if (votesCol != null) {
-            grid.sort(List.of(new GridSortOrder<>(votesCol, SortDirection.DESCENDING)));
-        }
+        // Lazy + in der DB sortiert; Standard: höchster rankScore zuerst.
+        // Das Archiv wird nur bei Filter auf COMPLETED/REJECTED mit abgefragt.
+        FeatureStatus filterStatus = statusFilter.getValue();
+        Long boardId = board.getId();
+        grid.setItems(query -> queryService.findPage(boardId, filterStatus, query.getOffset(), query.getLimit(),
+                VaadinSpringDataHelpers.toSpringDataSort(query)).stream());
     }
 
     private boolean looksLikeUrl(String v) {
@@ -1,10 +1,17 @@
 package com.example.featurewishlist.view;
 
+import com.example.featurewishlist.model.Board;
 import com.example.featurewishlist.model.FeatureRequest;
 import com.example.featurewishlist.model.FeatureStatus;
-import com.example.featurewishlist.model.Vote;
-import com.example.featurewishlist.repository.FeatureRequestRepository;
-import com.example.featurewishlist.repository.VoteRepository;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.model.InboxNotification;
+import com.example.featurewishlist.service.BoardService;
+import com.example.featurewishlist.service.FeatureQueryService;
+import com.example.featurewishlist.service.FeatureService;
+import com.example.featurewishlist.service.NotificationService;
+import com.example.featurewishlist.service.VoteBudgetService;
+import com.example.featurewishlist.service.VoteResult;
+import com.example.featurewishlist.service.VoteService;
 
 import com.example.featurewishlist.ui.ThemeUtil;
 
@@ -13,10 +20,10 @@ import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.component.grid.GridSortOrder;
 import com.vaadin.flow.component.grid.GridVariant;
 import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Paragraph;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
@@ -27,13 +34,19 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.data.provider.SortDirection;
-import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasDynamicTitle;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.NotFoundException;
+import com.vaadin.flow.router.OptionalParameter;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 
 import jakarta.servlet.http.Cookie;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -43,21 +56,38 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-@Route("")
-@PageTitle("Feature-Übersicht")
+// "/" zeigt das Standard-Board, "/b/{slug}" ein bestimmtes Board
+@Route("b")
+@RouteAlias("")
 @AnonymousAllowed
-public class FeatureListView extends VerticalLayout {
-
-    private final FeatureRequestRepository repository;
-    private final VoteRepository voteRepository;
-    private final Grid<FeatureRequest> grid = new Grid<>(FeatureRequest.class, false);
+public class FeatureListView extends VerticalLayout implements HasUrlParameter<String>, HasDynamicTitle {
+
+    private static final String VOTER_COOKIE = "voter-id";
+
+    private final FeatureQueryService queryService;
+    private final FeatureService featureService;
+    private final VoteService voteService;
+    private final NotificationService notificationService;
+    private final BoardService boardService;
+    private final VoteBudgetService budgetService;
+    private final Grid<FeatureSummary> grid = new Grid<>();
+    private final Span budgetLabel = new Span();
+    private int remainingPoints;
     private final Select<FeatureStatus> statusFilter = new Select<>();
-
-    public FeatureListView(FeatureRequestRepository repository, VoteRepository voteRepository) {
-        this.repository = repository;
-        this.voteRepository = voteRepository;
+    private final H3 boardTitle = new H3();
+    private final Anchor adminLink = new Anchor("admin", "Admin");
+    private Board board;
+
+    public FeatureListView(FeatureQueryService queryService, FeatureService featureService,
+                           VoteService voteService, NotificationService notificationService,
+                           BoardService boardService, VoteBudgetService budgetService) {
+        this.queryService = queryService;
+        this.featureService = featureService;
+        this.voteService = voteService;
+        this.notificationService = notificationService;
+        this.boardService = boardService;
+        this.budgetService = budgetService;
 
         setSizeFull();
         setPadding(true);
@@ -77,7 +107,16 @@ public class FeatureListView extends VerticalLayout {
             ThemeUtil.toggle();
             themeToggle.setIcon(new Icon(ThemeUtil.isDark() ? VaadinIcon.SUN_O : VaadinIcon.MOON_O));
         });
-        HorizontalLayout header = new HorizontalLayout(authBar, themeToggle);
+        HorizontalLayout header = new HorizontalLayout(authBar);
+        // Benachrichtigungen nur, wenn der Browser schon eine Voter-ID hat
+        Optional<UUID> knownVoter = readVoterId();
+        knownVoter.ifPresent(voterId -> header.add(createInboxButton(voterId)));
+        // Restbudget: nur für bekannte Voter aus der DB, danach lokal mitgezählt
+        remainingPoints = knownVoter.map(budgetService::remaining).orElse(budgetService.pointsPerQuarter());
+        updateBudgetLabel();
+        budgetLabel.getElement().setProperty("title", "Punkte, die du in diesem Quartal noch verteilen kannst");
+        header.add(budgetLabel);
+        header.add(themeToggle);
         header.setWidthFull();
         header.setJustifyContentMode(JustifyContentMode.BETWEEN);
 
@@ -89,8 +128,27 @@ public class FeatureListView extends VerticalLayout {
             actions.add(addFeatureButton);
         }
 
-        add(header, actions, grid);
-        updateGrid(null);
+        add(header, boardTitle, actions, grid);
+        expand(grid);
+    }
+
+    // Daten werden erst geladen, wenn das Board aus der URL feststeht
+    @Override
+    public void setParameter(BeforeEvent event, @OptionalParameter String slug) {
+        Optional<Board> resolved = boardService.resolve(slug);
+        if (resolved.isEmpty()) {
+            event.rerouteToError(NotFoundException.class, "Board '" + slug + "' existiert nicht");
+            return;
+        }
+        board = resolved.get();
+        boardTitle.setText(board.getName());
+        adminLink.setHref(boardService.isDefault(board) ? "admin" : "admin/" + board.getSlug());
+        updateGrid(statusFilter.getValue());
+    }
+
+    @Override
+    public String getPageTitle() {
+        return board != null ? "Feature-Übersicht – " + board.getName() : "Feature-Übersicht";
     }
 
     private HorizontalLayout buildAuthBar() {
@@ -120,7 +178,6 @@ public class FeatureListView extends VerticalLayout {
         });
 
         if (isAdmin()) {
-            Anchor adminLink = new Anchor("admin", "Admin");
             bar.add(who, new HorizontalLayout(adminLink, logout));
         } else {
             bar.add(who, logout);
@@ -139,108 +196,134 @@ public class FeatureListView extends VerticalLayout {
     private void configureGrid() {
         grid.removeAllColumns();
         grid.setWidthFull();
-        grid.setAllRowsVisible(true);
         grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES, GridVariant.LUMO_WRAP_CELL_CONTENT);
 
-        grid.addColumn(FeatureRequest::getTitle)
+        grid.addColumn(FeatureSummary::title)
             .setHeader("Titel")
             .setAutoWidth(true)
-            .setSortable(true)
+            .setSortProperty("title")
             .setFlexGrow(2);
 
-        // Beschreibung: gekürzt + Tooltip
-        grid.addColumn(fr -> truncate(fr.getDescription(), 120))
+        // Beschreibung: gespeicherte Vorschau; der volle Text wird erst per Klick geladen
+        grid.addColumn(FeatureSummary::descriptionPreview)
             .setHeader("Beschreibung")
             .setAutoWidth(true)
             .setFlexGrow(2)
-            .setTooltipGenerator(fr -> nullSafe(fr.getDescription()));
+            .setKey("description")
+            .setTooltipGenerator(fr -> "Klicken für vollständige Beschreibung");
+        grid.addItemClickListener(e -> {
+            if (e.getColumn() != null && "description".equals(e.getColumn().getKey())) {
+                openDescriptionDialog(e.getItem());
+            }
+        });
 
-        grid.addColumn(FeatureRequest::getCategory)
+        grid.addColumn(FeatureSummary::category)
             .setHeader("Kategorie")
-            .setSortable(true)
+            .setSortProperty("category")
             .setAutoWidth(true);
 
         // Status: für Admin editierbar, sonst read-only
         if (isAdmin()) {
             grid.addComponentColumn(this::createStatusSelector)
                 .setHeader("Status bearbeiten")
-                .setAutoWidth(true);
+                .setAutoWidth(true)
+                .setKey("statusEdit");
         } else {
-            grid.addColumn(FeatureRequest::getStatus)
+            grid.addColumn(FeatureSummary::status)
                 .setHeader("Status")
-                .setSortable(true)
+                .setSortProperty("status")
                 .setAutoWidth(true);
         }
 
-        grid.addColumn(fr -> fr.getCreatedAt() != null ? fr.getCreatedAt() : "")
+        grid.addColumn(fr -> fr.createdAt() != null ? fr.createdAt() : "")
             .setHeader("Erstellt am")
-            .setSortable(true)
+            .setSortProperty("createdAt")
             .setAutoWidth(true)
             .setKey("createdAt");
 
         // Ticket-Link (optional)
-        grid.addComponentColumn(fr -> createTicketAnchor(fr.getTicketUrl()))
+        grid.addComponentColumn(fr -> createTicketAnchor(fr.ticketUrl()))
             .setHeader("Ticket")
             .setAutoWidth(true);
 
-        // ✅ Sortierbare Votes-Spalte (Zahl)
-        grid.addColumn(fr -> voteRepository.countByFeature(fr))
-            .setHeader("Votes")
-            .setComparator((a, b) -> Long.compare(
-                voteRepository.countByFeature(a), voteRepository.countByFeature(b)))
+        // ✅ Sortierbare Punkte-Spalte (gewichtete Summe, denormalisiert am Feature gespeichert)
+        grid.addColumn(FeatureSummary::voteCount)
+            .setHeader("Punkte")
+            .setSortProperty("voteCount")
             .setAutoWidth(true)
             .setKey("votes");
 
         // Vote-Button (nur für eingeloggte Nutzer aktiv)
         grid.addComponentColumn(this::createVoteButton)
             .setHeader("Abstimmen")
-            .setAutoWidth(true);
+            .setAutoWidth(true)
+            .setKey("vote");
 
         grid.getStyle().set("margin-top", "0.5rem");
     }
 
-    private Select<FeatureStatus> createStatusSelector(FeatureRequest feature) {
+    private Select<FeatureStatus> createStatusSelector(FeatureSummary feature) {
         Select<FeatureStatus> statusSelect = new Select<>();
         statusSelect.setItems(FeatureStatus.values());
-        statusSelect.setValue(feature.getStatus());
+        statusSelect.setValue(feature.status());
         statusSelect.setWidth("180px");
+        // Archivierte Einträge sind schreibgeschützt
+        statusSelect.setReadOnly(feature.archived());
         statusSelect.addValueChangeListener(event -> {
-            feature.setStatus(event.getValue());
-            repository.save(feature);
+            featureService.changeStatus(feature.id(), event.getValue());
             Notification.show("Status aktualisiert");
             updateGrid(statusFilter.getValue());
         });
         return statusSelect;
     }
 
-    private Button createVoteButton(FeatureRequest feature) {
-        long votes = voteRepository.countByFeature(feature);
-        Button voteBtn = new Button("👍 " + votes);
+    private Button createVoteButton(FeatureSummary feature) {
+        Button voteBtn = new Button("👍 " + feature.voteCount());
 
         if (!isAuthenticated()) {
             voteBtn.setEnabled(false);
             voteBtn.getElement().setProperty("title", "Bitte einloggen, um abzustimmen");
             return voteBtn;
         }
+        if (feature.archived()) {
+            voteBtn.setEnabled(false);
+            voteBtn.getElement().setProperty("title", "Archiviert – Abstimmung geschlossen");
+            return voteBtn;
+        }
 
+        voteBtn.getElement().setProperty("title", "Einen Punkt aus deinem Quartalsbudget vergeben");
         voteBtn.addClickListener(e -> {
-            String voterId = getOrCreateVoterId();
-            Optional<Vote> existing = voteRepository.findByFeatureIdAndVoterId(feature.getId(), voterId);
-            if (existing.isPresent()) {
-                Notification.show("Du hast bereits abgestimmt.");
-            } else {
-                Vote vote = Vote.builder()
-                        .feature(feature)
-                        .voterId(voterId)
-                        .votedAt(LocalDateTime.now())
-                        .build();
-                voteRepository.save(vote);
-                updateGrid(statusFilter.getValue());
+            UUID voterId = getOrCreateVoterId();
+            VoteResult result;
+            try {
+                result = voteService.vote(feature.id(), voterId);
+            } catch (DataIntegrityViolationException ex) {
+                Notification.show("Bitte erneut versuchen."); // paralleler Doppelklick auf die erste Stimme
+                return;
             }
+            switch (result) {
+                case COUNTED -> {
+                    remainingPoints = Math.max(0, remainingPoints - 1);
+                    grid.getDataProvider().refreshAll();
+                }
+                case BUDGET_EXHAUSTED -> {
+                    remainingPoints = 0;
+                    Notification.show("Dein Punktebudget für dieses Quartal ist aufgebraucht.");
+                }
+                case CLOSED -> {
+                    Notification.show("Archiviert – Abstimmung geschlossen");
+                    grid.getDataProvider().refreshAll();
+                }
+            }
+            updateBudgetLabel();
         });
         return voteBtn;
     }
 
+    private void updateBudgetLabel() {
+        budgetLabel.setText("🎯 " + remainingPoints + "/" + budgetService.pointsPerQuarter() + " Punkte");
+    }
+
     private boolean isAuthenticated() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
@@ -252,19 +335,56 @@ public class FeatureListView extends VerticalLayout {
                 .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
     }
 
-    private String getOrCreateVoterId() {
-        String cookieName = "voter-id";
-        String voterId = VaadinService.getCurrentRequest().getCookies() != null
-                ? java.util.Arrays.stream(VaadinService.getCurrentRequest().getCookies())
-                .filter(c -> cookieName.equals(c.getName()))
+    private Button createInboxButton(UUID voterId) {
+        long unread = notificationService.unreadCount(voterId);
+        Button inbox = new Button(unread > 0 ? "🔔 " + unread : "🔔");
+        inbox.getElement().setProperty("title", "Benachrichtigungen zu Wünschen, für die du gestimmt hast");
+        inbox.addClickListener(e -> {
+            openInboxDialog(notificationService.openInbox(voterId, 20));
+            inbox.setText("🔔");
+        });
+        return inbox;
+    }
+
+    private void openInboxDialog(List<InboxNotification> notifications) {
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle("Benachrichtigungen");
+        dialog.setWidth("560px");
+        if (notifications.isEmpty()) {
+            dialog.add(new Paragraph("Keine Benachrichtigungen."));
+        }
+        for (InboxNotification n : notifications) {
+            Paragraph p = new Paragraph(n.getMessage());
+            p.getStyle().set("white-space", "pre-wrap");
+            if (n.getReadAt() == null) {
+                p.getStyle().set("font-weight", "600");
+            }
+            dialog.add(p);
+        }
+        dialog.getFooter().add(new Button("Schließen", e -> dialog.close()));
+        dialog.open();
+    }
+
+    private Optional<UUID> readVoterId() {
+        var request = VaadinService.getCurrentRequest();
+        if (request == null || request.getCookies() == null) {
+            return Optional.empty();
+        }
+        return java.util.Arrays.stream(request.getCookies())
+                .filter(c -> VOTER_COOKIE.equals(c.getName()))
                 .findFirst()
                 .map(Cookie::getValue)
-                .orElse(null)
-                : null;
+                .flatMap(FeatureListView::parseUuid);
+    }
+
+    private UUID getOrCreateVoterId() {
+        String cookieName = VOTER_COOKIE;
+        UUID voterId = readVoterId().orElse(null);
 
+        // Kein oder ungültiges Cookie -> neue ID vergeben
         if (voterId == null) {
-            voterId = UUID.randomUUID().toString();
-            Cookie cookie = new Cookie(cookieName, voterId);
+            voterId = UUID.randomUUID();
+            Cookie cookie = new Cookie(cookieName, voterId.toString());
             cookie.setPath("/");
             cookie.setMaxAge(60 * 60 * 24 * 365); // 1 Jahr
             VaadinService.getCurrentResponse().addCookie(cookie);
@@ -273,19 +393,10 @@ public class FeatureListView extends VerticalLayout {
     }
 
     private void updateGrid(FeatureStatus filterStatus) {
-        List<FeatureRequest> all = repository.findAll();
-        if (filterStatus != null) {
-            all = all.stream()
-                    .filter(fr -> fr.getStatus() == filterStatus)
-                    .collect(Collectors.toList());
-        }
-        grid.setItems(all);
-
-        // Standard: meist gevotet zuerst
-        var votesCol = grid.getColumnByKey("votes");
-        if (votesCol != null) {
-            grid.sort(java.util.List.of(new GridSortOrder<>(votesCol, SortDirection.DESCENDING)));
-        }
+        // Lazy: das Grid lädt nur die sichtbaren Seiten, sortiert und gefiltert in der DB
+        Long boardId = board.getId();
+        grid.setItems(query -> queryService.findPage(boardId, filterStatus, query.getOffset(), query.getLimit(),
+                VaadinSpringDataHelpers.toSpringDataSort(query)).stream());
     }
 
     private void openAddFeatureDialog() {
@@ -307,6 +418,7 @@ public class FeatureListView extends VerticalLayout {
                 return;
             }
             FeatureRequest request = FeatureRequest.builder()
+                    .board(board)
                     .title(title.getValue())
                     .description(description.getValue())
                     .category(category.getValue())
@@ -314,7 +426,7 @@ public class FeatureListView extends VerticalLayout {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            repository.save(request);
+            featureService.save(request);
             dialog.close();
             updateGrid(statusFilter.getValue());
             Notification.show("Feature gespeichert");
@@ -329,18 +441,27 @@ public class FeatureListView extends VerticalLayout {
         dialog.open();
     }
 
-    // ---------- Helfer ----------
-
-    private String truncate(String text, int max) {
-        if (text == null) return "";
-        String t = text.trim();
-        return t.length() <= max ? t : t.substring(0, max - 1) + "…";
+    private static Optional<UUID> parseUuid(String value) {
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    private String nullSafe(String text) {
-        return text == null ? "" : text;
+    private void openDescriptionDialog(FeatureSummary feature) {
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle(feature.title());
+        dialog.setWidth("640px");
+        Paragraph text = new Paragraph(queryService.loadDescription(feature));
+        text.getStyle().set("white-space", "pre-wrap");
+        dialog.add(text);
+        dialog.getFooter().add(new Button("Schließen", e -> dialog.close()));
+        dialog.open();
     }
 
+    // ---------- Helfer ----------
+
     private Anchor createTicketAnchor(String url) {
         if (url == null || url.isBlank()) {
             return new Anchor("", "—");
@@ -2,7 +2,7 @@ package com.example.featurewishlist.view;
 
 import com.example.featurewishlist.model.FeatureRequest;
 import com.example.featurewishlist.model.FeatureStatus;
-import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.service.FeatureService;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 @PageTitle("Feature-Wunsch einreichen")
 public class FeatureRequestView extends VerticalLayout {
 
-    public FeatureRequestView(@Autowired FeatureRequestRepository repository) {
+    public FeatureRequestView(@Autowired FeatureService featureService) {
         TextField title = new TextField("Titel");
         TextArea description = new TextArea("Beschreibung");
         TextField category = new TextField("Kategorie");
@@ -32,7 +32,7 @@ public class FeatureRequestView extends VerticalLayout {
                 .status(FeatureStatus.OPEN)
                 .createdAt(LocalDateTime.now())
                 .build();
-            repository.save(request);
+            featureService.save(request);
             Notification.show("Feature gespeichert!");
             title.clear();
             description.clear();
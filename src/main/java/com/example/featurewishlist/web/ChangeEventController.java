@@ -0,0 +1,53 @@
+package com.example.featurewishlist.web;
+
+import com.example.featurewishlist.service.events.ChangeEventRelay;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Stream der Änderungsereignisse (Feature angelegt/geändert, Stimme vergeben) als Server-Sent Events.
+// Fortsetzen per ?since=<seq> oder automatisch per Last-Event-ID-Header beim Reconnect;
+// ohne beides beginnt der Stream beim aktuellen Stand. Liegt der Stand vor der Aufbewahrung (oder hinter
+// dem aktuellen Stand, z. B. nach einem DB-Reset), antwortet der Endpunkt mit 410: neu laden statt Lücke.
+@RestController
+public class ChangeEventController {
+
+    private final ChangeEventRelay relay;
+
+    public ChangeEventController(ChangeEventRelay relay) {
+        this.relay = relay;
+    }
+
+    @GetMapping(path = "/api/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestParam(name = "since", required = false) Long since,
+                             @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        long start;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            start = parseSeq(lastEventId);
+        } else if (since != null) {
+            start = since;
+        } else {
+            start = relay.lastRelayedSeq();
+        }
+        if (start < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Sequenznummer muss >= 0 sein");
+        }
+        if (start < relay.oldestResumableSeq() || start > relay.lastRelayedSeq()) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Stand " + start + " ist nicht mehr verfügbar, bitte neu laden");
+        }
+        return relay.subscribe(start);
+    }
+
+    private static long parseSeq(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ungültige Last-Event-ID: " + value);
+        }
+    }
+}
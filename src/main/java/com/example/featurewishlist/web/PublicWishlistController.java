@@ -0,0 +1,56 @@
+package com.example.featurewishlist.web;
+
+import com.example.featurewishlist.model.Board;
+import com.example.featurewishlist.service.BoardService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+// Öffentliche, read-only Wunschliste ohne Vaadin-UI und ohne HTTP-Session:
+// liefert die gecachte Seite aus PublicWishlistPage, mit ETag und Cache-Control für Browser/Proxies.
+@Controller
+public class PublicWishlistController {
+
+    private final BoardService boardService;
+    private final PublicWishlistPage page;
+
+    @Value("${app.public.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    public PublicWishlistController(BoardService boardService, PublicWishlistPage page) {
+        this.boardService = boardService;
+        this.page = page;
+    }
+
+    @GetMapping({"/public/wishlist", "/public/wishlist/{slug}"})
+    public ResponseEntity<byte[]> wishlist(@PathVariable(name = "slug", required = false) String slug,
+                                           WebRequest request) {
+        Board board = boardService.resolve(slug)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Board existiert nicht"));
+        PublicWishlistPage.Rendered rendered = page.get(board);
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+
+        // If-None-Match passt: 304 ohne Body
+        if (request.checkNotModified(rendered.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(rendered.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .eTag(rendered.etag())
+                .cacheControl(cacheControl)
+                .body(rendered.body());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.featurewishlist.web;
+
+import com.example.featurewishlist.model.Board;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.service.FeatureQueryService;
+import com.example.featurewishlist.service.WishlistChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Fertig gerenderte, read-only HTML-Seite der Wunschliste je Board für anonyme Besucher.
+// Die Seite wird beim ersten Abruf erzeugt und bis zur nächsten Änderung (Feature/Stimme) unverändert ausgeliefert.
+@Slf4j
+@Component
+public class PublicWishlistPage {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private final FeatureQueryService queryService;
+    private final Map<Long, CompletableFuture<Rendered>> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.public.max-rows:100}")
+    private int maxRows;
+
+    public PublicWishlistPage(FeatureQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    public record Rendered(byte[] body, String etag) {
+    }
+
+    // Ein Future pro Board: parallele Abrufe warten auf dieselbe Erzeugung (eine Abfrage statt vieler),
+    // gerendert wird aber außerhalb der Map – onChange() blockiert nie. Das Future steht in der Map, bevor
+    // gelesen wird; eine Änderung, die währenddessen committet, entfernt es also sicher wieder.
+    public Rendered get(Board board) {
+        CompletableFuture<Rendered> page = cache.get(board.getId());
+        if (page == null) {
+            CompletableFuture<Rendered> created = new CompletableFuture<>();
+            page = cache.putIfAbsent(board.getId(), created);
+            if (page == null) {
+                try {
+                    Rendered rendered = render(board);
+                    created.complete(rendered);
+                    return rendered;
+                } catch (RuntimeException e) {
+                    cache.remove(board.getId(), created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        return page.join();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(WishlistChangedEvent event) {
+        if (event.boardId() == null) {
+            cache.clear();
+        } else {
+            cache.remove(event.boardId());
+        }
+    }
+
+    private Rendered render(Board board) {
+        List<FeatureSummary> rows = queryService.findPage(board.getId(), null, 0, maxRows, Sort.unsorted());
+        StringBuilder html = new StringBuilder(2048 + rows.size() * 256);
+        String name = HtmlUtils.htmlEscape(board.getName());
+        html.append("<!DOCTYPE html><html lang=\"de\"><head><meta charset=\"UTF-8\">")
+            .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">")
+            .append("<title>Feature-Übersicht – ").append(name).append("</title>")
+            .append("<style>body{font-family:system-ui,sans-serif;margin:1.5rem;color:#1f2933}")
+            .append("table{border-collapse:collapse;width:100%}th,td{text-align:left;padding:.4rem .6rem;")
+            .append("border-bottom:1px solid #e4e7eb;vertical-align:top}td.num{text-align:right}")
+            .append("small{color:#616e7c}</style></head><body>")
+            .append("<h1>").append(name).append("</h1>")
+            .append("<p><a href=\"").append(HtmlUtils.htmlEscape(interactivePath(board)))
+            .append("\">Zum Abstimmen anmelden</a></p>")
+            .append("<table><thead><tr><th>Titel</th><th>Kategorie</th><th>Status</th>")
+            .append("<th>Erstellt am</th><th>Punkte</th></tr></thead><tbody>");
+        for (FeatureSummary f : rows) {
+            html.append("<tr><td>").append(escape(f.title()));
+            if (f.descriptionPreview() != null && !f.descriptionPreview().isBlank()) {
+                html.append("<br><small>").append(escape(f.descriptionPreview())).append("</small>");
+            }
+            html.append("</td><td>").append(escape(f.category()))
+                .append("</td><td>").append(f.status() != null ? f.status().name() : "")
+                .append("</td><td>").append(f.createdAt() != null ? DATE.format(f.createdAt()) : "")
+                .append("</td><td class=\"num\">").append(f.voteCount())
+                .append("</td></tr>");
+        }
+        html.append("</tbody></table></body></html>");
+
+        byte[] body = html.toString().getBytes(StandardCharsets.UTF_8);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        log.debug("Öffentliche Wunschliste für Board '{}' neu erzeugt ({} Features, {} Bytes)",
+                board.getSlug(), rows.size(), body.length);
+        return new Rendered(body, etag);
+    }
+
+    private static String interactivePath(Board board) {
+        return "/b/" + board.getSlug();
+    }
+
+    private static String escape(String value) {
+        return value != null ? HtmlUtils.htmlEscape(value) : "";
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.featurewishlist.config;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.service.BoardService;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// Migration auf einem Altbestand mit Dubletten: dieselbe UUID in Groß-/Kleinschreibung, exakt doppelte
+// Zeilen und nicht kanonische Werte werden je (Feature, Voter) zu einer Zeile zusammengeführt,
+// statt am Unique-Constraint auf (feature_id, voter_key) zu scheitern.
+@SpringBootTest
+@ActiveProfiles("test")
+class VoterMigrationTest {
+
+    private static final String ALICE = "6f1c2d3e-4a5b-4c6d-8e7f-901a2b3c4d5e";
+    private static final String BOB = "0a1b2c3d-4e5f-4a6b-9c7d-8e9f0a1b2c3d";
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired private VoterMigration migration;
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private BoardService boardService;
+    @Autowired private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        jdbc.execute("alter table vote add column if not exists voter_id varchar(36)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("alter table vote drop column if exists voter_id");
+    }
+
+    @Test
+    void mergesDuplicateLegacyVotesBeforeAssigningKeys() {
+        Long export = feature("Export");
+        Long darkMode = feature("Dark Mode");
+        legacyVote(export, ALICE, 1, T0.plusHours(1));
+        legacyVote(export, ALICE.toUpperCase(), 2, T0);
+        legacyVote(export, BOB, 1, T0);
+        legacyVote(darkMode, BOB, 1, T0);
+        legacyVote(darkMode, BOB, 1, T0.plusDays(1));
+        legacyVote(darkMode, "legacy-42", 1, T0);
+        legacyVote(darkMode, "legacy-42", 3, T0.plusDays(2));
+
+        migration.run(new DefaultApplicationArguments());
+
+        assertEquals(0, count("select count(*) from information_schema.columns "
+                + "where upper(table_name) = 'VOTE' and upper(column_name) = 'VOTER_ID'"));
+        assertEquals(3, count("select count(*) from voter"));
+        assertEquals(4, count("select count(*) from vote"));
+        assertEquals(List.of(1, 3), weights(export));
+        assertEquals(List.of(2, 4), weights(darkMode));
+        assertEquals(0, count("select count(*) from vote where voted_at <> ?", T0));
+        assertEquals(0, count("select count(*) from vote where voter_key is null"));
+    }
+
+    private Long feature(String title) {
+        return featureRepository.save(FeatureRequest.builder()
+                .board(boardService.defaultBoard())
+                .title(title)
+                .status(FeatureStatus.OPEN)
+                .build()).getId();
+    }
+
+    private void legacyVote(Long featureId, String voterId, int weight, LocalDateTime votedAt) {
+        jdbc.update("insert into vote (feature_id, voter_id, weight, voted_at) values (?, ?, ?, ?)",
+                featureId, voterId, weight, votedAt);
+    }
+
+    // Gewichte eines Features, aufsteigend
+    private List<Integer> weights(Long featureId) {
+        List<Map<String, Object>> rows = jdbc.queryForList("select weight from vote where feature_id = ? order by weight",
+                featureId);
+        return rows.stream().map(r -> ((Number) r.get("WEIGHT")).intValue()).toList();
+    }
+
+    private long count(String sql, Object... args) {
+        Long n = jdbc.queryForObject(sql, Long.class, args);
+        assertNotNull(n);
+        return n;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.ArchivedFeatureRequest;
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Der Nachtrag muss exakt die Vorschau liefern, die FeatureRequest beim Speichern erzeugt – auch im Archiv.
+@SpringBootTest(properties = "app.preview.backfill-chunk-size=3")
+@ActiveProfiles("test")
+class DescriptionPreviewBackfillTest {
+
+    private static final List<String> DESCRIPTIONS = List.of(
+            "  kurz  ",
+            "x".repeat(FeatureRequest.PREVIEW_LENGTH),
+            "y".repeat(FeatureRequest.PREVIEW_LENGTH + 1),
+            "   " + "z".repeat(FeatureRequest.PREVIEW_LENGTH + 40) + "   ",
+            "");
+
+    @Autowired private DescriptionPreviewBackfill backfill;
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private ArchivedFeatureRequestRepository archivedFeatureRepository;
+    @Autowired private BoardService boardService;
+    @Autowired private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+    }
+
+    @Test
+    void backfillMatchesPreviewRuleForFeaturesAndArchive() {
+        featureRepository.saveAll(IntStream.range(0, DESCRIPTIONS.size())
+                .mapToObj(i -> FeatureRequest.builder()
+                        .board(boardService.defaultBoard())
+                        .title("Feature " + i)
+                        .description(DESCRIPTIONS.get(i))
+                        .build())
+                .toList());
+        featureRepository.save(FeatureRequest.builder().board(boardService.defaultBoard()).title("ohne").build());
+        archivedFeatureRepository.saveAll(IntStream.range(0, DESCRIPTIONS.size())
+                .mapToObj(i -> ArchivedFeatureRequest.builder()
+                        .id(1000L + i)
+                        .boardId(boardService.defaultBoard().getId())
+                        .title("Archiv " + i)
+                        .description(DESCRIPTIONS.get(i))
+                        .status(FeatureStatus.COMPLETED)
+                        .archivedAt(LocalDateTime.now())
+                        .build())
+                .toList());
+        // Bestandsdaten aus der Zeit vor der Vorschau-Spalte
+        jdbc.update("update feature_request set description_preview = null");
+        jdbc.update("update archived_feature_request set description_preview = null");
+
+        backfill.backfill();
+
+        for (FeatureRequest f : featureRepository.findAll()) {
+            assertEquals(FeatureRequest.preview(f.getDescription()), f.getDescriptionPreview(), f.getTitle());
+        }
+        for (ArchivedFeatureRequest a : archivedFeatureRepository.findAll()) {
+            assertEquals(FeatureRequest.preview(a.getDescription()), a.getDescriptionPreview(), a.getTitle());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.ArchivedFeatureRequest;
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Abgeschlossene Features aus aktiver Tabelle und Archiv werden gemeinsam sortiert und geblättert.
+@SpringBootTest
+@ActiveProfiles("test")
+class FeatureQueryServiceTest {
+
+    @Autowired private FeatureQueryService queryService;
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private ArchivedFeatureRequestRepository archivedFeatureRepository;
+    @Autowired private BoardService boardService;
+    @Autowired private JdbcTemplate jdbc;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        boardId = boardService.defaultBoard().getId();
+        hot("B");
+        hot("D");
+        archived("A", 901L);
+        archived("C", 902L);
+        archived("E", 903L);
+    }
+
+    @Test
+    void closedStatusIsMergedByRequestedSort() {
+        List<FeatureSummary> rows = page(0, 10, Sort.by("title"));
+
+        assertEquals(List.of("A", "B", "C", "D", "E"), rows.stream().map(FeatureSummary::title).toList());
+        assertEquals(List.of(true, false, true, false, true), rows.stream().map(FeatureSummary::archived).toList());
+    }
+
+    @Test
+    void offsetCrossesTheArchiveBoundary() {
+        assertEquals(List.of("B", "C"), page(1, 2, Sort.by("title")).stream().map(FeatureSummary::title).toList());
+        assertEquals(List.of("C", "B"), page(2, 2, Sort.by(Sort.Order.desc("title")))
+                .stream().map(FeatureSummary::title).toList());
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> page(0, 10, Sort.by("description")));
+    }
+
+    private List<FeatureSummary> page(int offset, int limit, Sort sort) {
+        return queryService.findPage(boardId, FeatureStatus.COMPLETED, offset, limit, sort);
+    }
+
+    private void hot(String title) {
+        featureRepository.save(FeatureRequest.builder()
+                .board(boardService.defaultBoard())
+                .title(title)
+                .status(FeatureStatus.COMPLETED)
+                .build());
+    }
+
+    private void archived(String title, long id) {
+        archivedFeatureRepository.save(ArchivedFeatureRequest.builder()
+                .id(id)
+                .boardId(boardId)
+                .title(title)
+                .status(FeatureStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .archivedAt(LocalDateTime.now())
+                .build());
+    }
+}
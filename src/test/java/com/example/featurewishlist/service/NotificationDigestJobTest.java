@@ -0,0 +1,166 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.InboxNotification;
+import com.example.featurewishlist.model.StatusChangeEvent;
+import com.example.featurewishlist.model.Voter;
+import com.example.featurewishlist.repository.InboxNotificationRepository;
+import com.example.featurewishlist.repository.StatusChangeEventRepository;
+import com.example.featurewishlist.repository.SubscriptionRepository;
+import com.example.featurewishlist.repository.VoterRepository;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Abos beim ersten Vote, Zusammenfassen mehrerer Wechsel und blockweise, fortsetzbare Zustellung.
+@SpringBootTest(properties = "app.notifications.chunk-size=2")
+@ActiveProfiles("test")
+class NotificationDigestJobTest {
+
+    @Autowired private NotificationDigestJob job;
+    @Autowired private NotificationService notificationService;
+    @Autowired private FeatureService featureService;
+    @Autowired private VoteService voteService;
+    @Autowired private VoterService voterService;
+    @Autowired private VoterRepository voterRepository;
+    @Autowired private SubscriptionRepository subscriptionRepository;
+    @Autowired private StatusChangeEventRepository eventRepository;
+    @Autowired private InboxNotificationRepository inboxRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+    }
+
+    @Test
+    void firstVoteSubscribesOnce() {
+        Long feature = feature("Export");
+        UUID voter = UUID.randomUUID();
+
+        voteService.vote(feature, voter);
+        voteService.vote(feature, voter);
+
+        assertEquals(1, subscriptionRepository.count());
+        assertEquals(voterService.findKey(voter).orElseThrow(),
+                subscriptionRepository.findAll().get(0).getVoter().getId());
+    }
+
+    @Test
+    void changesAreCoalescedPerVoterAndFeature() {
+        Long export = feature("Export");
+        Long darkMode = feature("Dark Mode");
+        List<Integer> voters = voters(3);
+        voters.forEach(v -> notificationService.subscribe(export, v));
+        notificationService.subscribe(darkMode, voters.get(0));
+
+        featureService.changeStatus(export, FeatureStatus.IN_PROGRESS);
+        featureService.changeStatus(export, FeatureStatus.COMPLETED);
+        featureService.changeStatus(darkMode, FeatureStatus.IN_PROGRESS);
+
+        job.deliver();
+
+        List<InboxNotification> first = inbox(voters.get(0));
+        assertEquals(1, first.size(), "ein Digest pro Voter");
+        assertTrue(first.get(0).getMessage().contains("Export → Umgesetzt"));
+        assertTrue(first.get(0).getMessage().contains("Dark Mode → In Arbeit"));
+        assertFalse(first.get(0).getMessage().contains("Export → In Arbeit"), "nur der letzte Status zählt");
+        for (Integer v : voters.subList(1, 3)) {
+            List<InboxNotification> digest = inbox(v);
+            assertEquals(1, digest.size());
+            assertFalse(digest.get(0).getMessage().contains("Dark Mode"));
+        }
+        assertEquals(0, eventRepository.count());
+    }
+
+    @Test
+    void changeRevertedToOpenIsNotReported() {
+        Long export = feature("Export");
+        Integer voter = voters(1).get(0);
+        notificationService.subscribe(export, voter);
+
+        featureService.changeStatus(export, FeatureStatus.IN_PROGRESS);
+        featureService.changeStatus(export, FeatureStatus.OPEN);
+        assertEquals(1, eventRepository.count(), "IN_PROGRESS eingereiht, OPEN nicht");
+        job.deliver();
+
+        assertTrue(inbox(voter).isEmpty());
+        assertEquals(0, eventRepository.count());
+    }
+
+    @Test
+    void deliversInChunksAndResumesAfterAbort() {
+        Long export = feature("Export");
+        List<Integer> voters = voters(5);
+        voters.forEach(v -> notificationService.subscribe(export, v));
+        featureService.changeStatus(export, FeatureStatus.COMPLETED);
+        assertEquals(1, eventRepository.count());
+
+        // Abgebrochener Lauf: die ersten beiden Voter wurden bereits zugestellt
+        StatusChangeEvent head = eventRepository.findAll().get(0);
+        head.setBatchEnd(head.getId());
+        head.setVoterCursor(voters.get(1));
+        eventRepository.save(head);
+
+        job.deliver();
+
+        voters.subList(0, 2).forEach(v -> assertTrue(inbox(v).isEmpty(), "Voter " + v + " doppelt benachrichtigt"));
+        voters.subList(2, 5).forEach(v -> assertEquals(1, inbox(v).size(), "Voter " + v));
+        assertEquals(0, eventRepository.count());
+    }
+
+    @Test
+    void changeFromMissingLegacyStatusIsReported() {
+        Long export = feature("Export");
+        Integer voter = voters(1).get(0);
+        notificationService.subscribe(export, voter);
+        jdbc.update("update feature_request set status = null where id = ?", export);
+
+        featureService.changeStatus(export, FeatureStatus.IN_PROGRESS);
+        job.deliver();
+
+        assertEquals(1, inbox(voter).size());
+        assertTrue(inbox(voter).get(0).getMessage().contains("Export → In Arbeit"));
+    }
+
+    @Test
+    void newFeatureEnqueuesNoStatusChange() {
+        feature("Export");
+
+        assertEquals(0, eventRepository.count());
+    }
+
+    private Long feature(String title) {
+        return featureService.save(FeatureRequest.builder().title(title).build()).getId();
+    }
+
+    private List<Integer> voters(int n) {
+        LocalDateTime now = LocalDateTime.now();
+        return voterRepository.saveAll(IntStream.range(0, n)
+                        .mapToObj(i -> Voter.builder().uuid(UUID.randomUUID()).firstSeenAt(now).build())
+                        .toList())
+                .stream()
+                .map(Voter::getId)
+                .sorted()
+                .toList();
+    }
+
+    private List<InboxNotification> inbox(Integer voterKey) {
+        return inboxRepository.findAll().stream().filter(n -> voterKey.equals(n.getVoterKey())).toList();
+    }
+}
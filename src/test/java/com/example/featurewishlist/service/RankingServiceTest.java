@@ -0,0 +1,115 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.RankingFormula;
+import com.example.featurewishlist.model.Vote;
+import com.example.featurewishlist.model.Voter;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.VoteRepository;
+import com.example.featurewishlist.repository.VoterRepository;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Der mengenbasierte Neuaufbau (in SQL, über mehrere Id-Bereiche) muss dieselben Werte liefern
+// wie die Einzelberechnung in Java.
+@SpringBootTest(properties = "app.ranking.recompute-chunk-size=7")
+@ActiveProfiles("test")
+class RankingServiceTest {
+
+    @Autowired private RankingService rankingService;
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private VoteRepository voteRepository;
+    @Autowired private VoterRepository voterRepository;
+    @Autowired private BoardService boardService;
+    @Autowired private JdbcTemplate jdbc;
+
+    private RankingFormula configured;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        configured = (RankingFormula) ReflectionTestUtils.getField(rankingService, "formula");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(rankingService, "formula", configured);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RankingFormula.class)
+    void recomputeAllMatchesSingleScore(RankingFormula formula) {
+        ReflectionTestUtils.setField(rankingService, "formula", formula);
+        seed(30);
+
+        rankingService.recomputeAll();
+
+        for (FeatureRequest f : featureRepository.findAll()) {
+            long points = voteRepository.findAll().stream()
+                    .filter(v -> v.getFeature().getId().equals(f.getId()))
+                    .mapToLong(Vote::getWeight)
+                    .sum();
+            assertEquals(points, f.getVoteCount(), "voteCount von Feature " + f.getId());
+            assertEquals(rankingService.score(points, f.getStatus(), f.getCreatedAt()), f.getRankScore(), 1e-6,
+                    formula + ": rankScore von Feature " + f.getId());
+        }
+    }
+
+    // seed() schreibt Stimmen ohne voteCount, wie Bestandsdaten nach einem Upgrade
+    @Test
+    void startupBackfillsUncountedVotesWithoutFlag() {
+        seed(10);
+
+        rankingService.onStartup();
+
+        for (FeatureRequest f : featureRepository.findAll()) {
+            long points = voteRepository.findAll().stream()
+                    .filter(v -> v.getFeature().getId().equals(f.getId()))
+                    .mapToLong(Vote::getWeight)
+                    .sum();
+            assertEquals(points, f.getVoteCount(), "voteCount von Feature " + f.getId());
+        }
+        assertFalse(featureRepository.existsWithUncountedVotes());
+    }
+
+    private void seed(int features) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        FeatureStatus[] statuses = FeatureStatus.values();
+        List<FeatureRequest> saved = featureRepository.saveAll(IntStream.range(0, features)
+                .mapToObj(i -> FeatureRequest.builder()
+                        .board(boardService.defaultBoard())
+                        .title("Feature " + i)
+                        .status(statuses[i % statuses.length])
+                        .createdAt(now.minusHours(i * 7L))
+                        .build())
+                .toList());
+        Voter voter = voterRepository.save(Voter.builder().uuid(UUID.randomUUID()).firstSeenAt(now).build());
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) {
+            if (i % 3 != 0) {
+                votes.add(Vote.builder().feature(saved.get(i)).voter(voter).votedAt(now).weight(i % 4 + 1).build());
+            }
+        }
+        voteRepository.saveAll(votes);
+    }
+}
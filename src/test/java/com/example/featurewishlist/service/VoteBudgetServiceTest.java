@@ -0,0 +1,112 @@
+package com.example.featurewishlist.service;
+
+import com.example.featurewishlist.model.VoteBudget;
+import com.example.featurewishlist.repository.VoteBudgetRepository;
+import com.example.featurewishlist.support.DatabaseCleaner;
+import com.example.featurewishlist.support.MutableClock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Abbuchen bis zur Erschöpfung, Rücksetzen beim Quartalswechsel und paralleles Anlegen des Kontos.
+@SpringBootTest(properties = "app.votes.points-per-quarter=3")
+@ActiveProfiles("test")
+class VoteBudgetServiceTest {
+
+    private static final LocalDateTime END_OF_Q1 = LocalDateTime.of(2026, 3, 31, 23, 59);
+
+    @TestConfiguration
+    static class TestClockConfig {
+        @Bean
+        @Primary
+        MutableClock testClock() {
+            return new MutableClock(END_OF_Q1, ZoneId.systemDefault());
+        }
+    }
+
+    @Autowired private VoteBudgetService budgetService;
+    @Autowired private VoterService voterService;
+    @Autowired private VoteBudgetRepository budgetRepository;
+    @Autowired private MutableClock clock;
+    @Autowired private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        clock.set(END_OF_Q1);
+    }
+
+    @Test
+    void debitStopsWhenBudgetIsExhausted() {
+        UUID voter = UUID.randomUUID();
+        Integer key = voterService.resolveKey(voter);
+
+        assertTrue(budgetService.tryDebit(key, 1));
+        assertTrue(budgetService.tryDebit(key, 2));
+        assertFalse(budgetService.tryDebit(key, 1));
+        assertEquals(0, budgetService.remaining(voter));
+        assertEquals(0, budgetRepository.findById(key).orElseThrow().getBalance());
+    }
+
+    @Test
+    void newQuarterResetsBalanceOnNextDebit() {
+        UUID voter = UUID.randomUUID();
+        Integer key = voterService.resolveKey(voter);
+        assertTrue(budgetService.tryDebit(key, 3));
+        assertFalse(budgetService.tryDebit(key, 1));
+
+        clock.set(END_OF_Q1.plusMinutes(1));
+        // Vor der ersten Abbuchung im neuen Quartal zeigt remaining() schon das volle Budget
+        assertEquals(3, budgetService.remaining(voter));
+        assertTrue(budgetService.tryDebit(key, 1));
+
+        VoteBudget budget = budgetRepository.findById(key).orElseThrow();
+        assertEquals("2026-Q2", budget.getPeriod());
+        assertEquals(2, budget.getBalance());
+    }
+
+    @Test
+    void concurrentFirstDebitsOpenTheAccountOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Integer key = voterService.resolveKey(UUID.randomUUID());
+                CountDownLatch start = new CountDownLatch(1);
+                Callable<Boolean> click = () -> {
+                    start.await();
+                    return budgetService.tryDebit(key, 1);
+                };
+                List<Future<Boolean>> clicks = new ArrayList<>(List.of(pool.submit(click), pool.submit(click)));
+                start.countDown();
+                for (Future<Boolean> f : clicks) {
+                    assertTrue(f.get(), "Runde " + round + ": Klick nicht gezählt");
+                }
+                assertEquals(1, budgetRepository.findById(key).orElseThrow().getBalance(), "Runde " + round);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.featurewishlist.service.events;
+
+import com.example.featurewishlist.model.ChangeEvent;
+import com.example.featurewishlist.model.ChangeEventType;
+import com.example.featurewishlist.repository.ChangeEventRepository;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Relay und Konsument mit kleinem Ringpuffer (3): Commit-Reihenfolge statt id-Reihenfolge, kein Warten auf
+// zurückgerollte Inserts, Nachholen aus der DB und Übergang in den Ring ohne Duplikate, Reset bei Lücken.
+// Die Sende-Läufe laufen hier direkt im Test-Thread; der Relay-Stand läuft über Tests hinweg weiter,
+// daher wird relativ zu base gerechnet.
+@SpringBootTest(properties = "app.events.buffer-size=3")
+@ActiveProfiles("test")
+class ChangeEventRelayTest {
+
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+    @Autowired private ChangeEventRelay relay;
+    @Autowired private ChangeEventRepository repository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbc;
+
+    private long base;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        relay.relay();
+        base = relay.lastRelayedSeq();
+    }
+
+    @Test
+    void lateCommitWithLowerIdIsRelayedAfterwards() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    repository.saveAndFlush(event(1L));
+                    inserted.countDown();
+                    await(commit);
+                }));
+        assertTrue(inserted.await(10, TimeUnit.SECONDS));
+
+        repository.save(event(2L));
+        relay.relay();
+        assertEquals(base + 1, relay.lastRelayedSeq(), "nicht committetes Ereignis darf nicht blockieren");
+
+        commit.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+        relay.relay();
+
+        List<ChangeEventMessage> messages = relay.eventsAfter(base, 10);
+        assertEquals(List.of(base + 1, base + 2), messages.stream().map(ChangeEventMessage::seq).toList());
+        assertEquals(List.of(2L, 1L), messages.stream().map(ChangeEventMessage::featureId).toList(),
+                "Reihenfolge des Commits, nicht der id");
+    }
+
+    @Test
+    void rolledBackInsertDoesNotStallTheStream() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            repository.saveAndFlush(event(1L));
+            status.setRollbackOnly();
+        });
+        repository.save(event(2L));
+
+        relay.relay();
+
+        List<ChangeEventMessage> messages = relay.eventsAfter(base, 10);
+        assertEquals(1, messages.size());
+        assertEquals(base + 1, messages.get(0).seq());
+        assertEquals(2L, messages.get(0).featureId());
+    }
+
+    @Test
+    void adoptsSequenceNumbersAssignedByAnotherInstance() {
+        // Eine zweite Instanz hat bereits nummeriert, ohne dass dieser Relay davon weiß
+        Long foreign = repository.save(event(1L)).getId();
+        jdbc.update("update change_event set seq = ? where id = ?", base + 1, foreign);
+        repository.save(event(2L));
+
+        relay.relay();
+        relay.relay();
+
+        assertEquals(base + 2, relay.lastRelayedSeq(), "kein Stillstand am Unique-Index");
+        assertEquals(List.of(1L, 2L), relay.eventsAfter(base, 10).stream().map(ChangeEventMessage::featureId).toList());
+    }
+
+    @Test
+    void readsFromDatabaseBehindTheRingButNeverPastTheRelayedSeq() {
+        saveEvents(5);
+        relay.relay();
+        repository.save(event(99L)); // noch nicht weitergereicht
+
+        assertEquals(base + 2, relay.ringFloor());
+        assertEquals(seqs(base + 1, base + 5), seqsOf(relay.eventsAfter(base, 10)), "aus der DB");
+        assertEquals(seqs(base + 3, base + 5), seqsOf(relay.eventsAfter(base + 2, 10)), "aus dem Ring");
+        assertEquals(seqs(base + 2, base + 3), seqsOf(relay.eventsAfter(base + 1, 2)), "Seitengröße");
+    }
+
+    @Test
+    void subscriberCatchesUpAndGoesLiveWithoutDuplicates() {
+        saveEvents(5);
+        relay.relay();
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeEventSubscriber subscriber = new ChangeEventSubscriber(emitter, base, relay, Runnable::run);
+
+        subscriber.wake();
+        assertEquals(seqs(base + 1, base + 5), emitter.ids());
+
+        saveEvents(2);
+        relay.relay();
+        subscriber.wake();
+        subscriber.wake();
+
+        assertEquals(seqs(base + 1, base + 7), emitter.ids());
+        assertFalse(emitter.completed);
+    }
+
+    @Test
+    void subscriberGetsResetWhenEventsWerePruned() {
+        saveEvents(5);
+        relay.relay();
+        jdbc.update("delete from change_event where seq <= ?", base + 2);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        new ChangeEventSubscriber(emitter, base, relay, Runnable::run).wake();
+
+        assertEquals(List.of(), emitter.ids());
+        assertTrue(emitter.out.toString().contains("event:" + ChangeEventSubscriber.RESET_EVENT));
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    void laggingLiveSubscriberIsDisconnected() {
+        saveEvents(1);
+        relay.relay();
+        RecordingEmitter emitter = new RecordingEmitter();
+        ChangeEventSubscriber subscriber = new ChangeEventSubscriber(emitter, base, relay, Runnable::run);
+        subscriber.wake();
+        assertEquals(seqs(base + 1, base + 1), emitter.ids());
+
+        // Mehr neue Ereignisse als der Ring fasst, bevor der Konsument wieder an der Reihe ist
+        saveEvents(4);
+        relay.relay();
+        subscriber.wake();
+
+        assertEquals(seqs(base + 1, base + 1), emitter.ids());
+        assertTrue(emitter.completed, "wer live aus dem Ring fällt, setzt per Reconnect wieder auf");
+    }
+
+    private void saveEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            repository.save(event((long) i));
+        }
+    }
+
+    private static ChangeEvent event(Long featureId) {
+        return ChangeEvent.builder()
+                .type(ChangeEventType.FEATURE_UPDATED)
+                .featureId(featureId)
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static List<Long> seqs(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static List<Long> seqsOf(List<ChangeEventMessage> messages) {
+        return messages.stream().map(ChangeEventMessage::seq).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Zeichnet die gesendeten SSE-Zeilen auf, statt sie in eine Response zu schreiben
+    private static class RecordingEmitter extends SseEmitter {
+        private final StringBuilder out = new StringBuilder();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().forEach(part -> out.append(part.getData()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<Long> ids() {
+            List<Long> ids = new ArrayList<>();
+            Matcher matcher = ID.matcher(out);
+            while (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.featurewishlist.service.ticket;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.OutboxStatus;
+import com.example.featurewishlist.model.TicketOutboxEntry;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.TicketOutboxRepository;
+import com.example.featurewishlist.service.FeatureService;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Outbox-Abarbeitung gegen den lokalen Stub: Rückschreiben, Backoff, Aufgeben nach max-attempts
+// und erneutes Einreihen (FAILED bzw. entfernter Ticket-Link).
+@SpringBootTest(properties = {
+        "app.ticket.outbox.max-attempts=3",
+        "app.ticket.outbox.backoff-base-ms=1000",
+        "app.ticket.outbox.backoff-max-ms=60000"
+})
+@ActiveProfiles("test")
+class TicketOutboxDispatcherTest {
+
+    @Autowired private TicketOutboxDispatcher dispatcher;
+    @Autowired private LocalStubTicketClient ticketClient;
+    @Autowired private FeatureService featureService;
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private TicketOutboxRepository outboxRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        ticketClient.failNext(0);
+    }
+
+    @Test
+    void dispatchWritesTicketBack() {
+        Long id = inProgressFeature();
+
+        dispatcher.dispatchDue();
+
+        TicketOutboxEntry entry = entryFor(id);
+        assertEquals(OutboxStatus.DONE, entry.getStatus());
+        assertNotNull(entry.getTicketUrl());
+        assertEquals(entry.getTicketUrl(), featureRepository.findById(id).orElseThrow().getTicketUrl());
+    }
+
+    @Test
+    void failuresBackOffExponentially() {
+        Long id = inProgressFeature();
+        ticketClient.failNext(2);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchDue();
+        TicketOutboxEntry first = entryFor(id);
+        assertEquals(OutboxStatus.PENDING, first.getStatus());
+        assertEquals(1, first.getAttempts());
+        assertNotNull(first.getLastError());
+        assertDelayBetween(before, first.getNextAttemptAt(), 1000, 1200);
+
+        makeDue(first);
+        before = LocalDateTime.now();
+        dispatcher.dispatchDue();
+        TicketOutboxEntry second = entryFor(id);
+        assertEquals(2, second.getAttempts());
+        assertDelayBetween(before, second.getNextAttemptAt(), 2000, 2400);
+
+        makeDue(second);
+        dispatcher.dispatchDue();
+        TicketOutboxEntry done = entryFor(id);
+        assertEquals(OutboxStatus.DONE, done.getStatus());
+        assertNull(done.getLastError());
+        assertNotNull(featureRepository.findById(id).orElseThrow().getTicketUrl());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        Long id = inProgressFeature();
+        failUntilGivenUp(id);
+
+        TicketOutboxEntry entry = entryFor(id);
+        assertEquals(OutboxStatus.FAILED, entry.getStatus());
+        assertEquals(3, entry.getAttempts());
+
+        // FAILED-Einträge werden nicht mehr angefasst
+        makeDue(entry);
+        dispatcher.dispatchDue();
+        assertEquals(3, entryFor(id).getAttempts());
+        assertNull(featureRepository.findById(id).orElseThrow().getTicketUrl());
+    }
+
+    @Test
+    void failedEntryIsRequeuedOnNextStart() {
+        Long id = inProgressFeature();
+        failUntilGivenUp(id);
+        String key = entryFor(id).getIdempotencyKey();
+
+        featureService.changeStatus(id, FeatureStatus.OPEN);
+        featureService.changeStatus(id, FeatureStatus.IN_PROGRESS);
+
+        TicketOutboxEntry requeued = entryFor(id);
+        assertEquals(OutboxStatus.PENDING, requeued.getStatus());
+        assertEquals(0, requeued.getAttempts());
+        assertEquals(key, requeued.getIdempotencyKey());
+
+        dispatcher.dispatchDue();
+        assertEquals(OutboxStatus.DONE, entryFor(id).getStatus());
+        assertEquals(1, outboxRepository.count());
+    }
+
+    @Test
+    void clearedTicketLinkRequestsNewTicket() {
+        Long id = inProgressFeature();
+        dispatcher.dispatchDue();
+        String firstUrl = featureRepository.findById(id).orElseThrow().getTicketUrl();
+
+        FeatureRequest feature = featureRepository.findById(id).orElseThrow();
+        feature.setTicketUrl(null);
+        feature.setStatus(FeatureStatus.OPEN);
+        featureService.save(feature);
+        featureService.changeStatus(id, FeatureStatus.IN_PROGRESS);
+
+        TicketOutboxEntry requeued = entryFor(id);
+        assertEquals(OutboxStatus.PENDING, requeued.getStatus());
+        assertEquals(1, requeued.getGeneration());
+        assertTrue(requeued.getIdempotencyKey().endsWith("-1"));
+
+        dispatcher.dispatchDue();
+        String secondUrl = featureRepository.findById(id).orElseThrow().getTicketUrl();
+        assertNotNull(secondUrl);
+        assertNotEquals(firstUrl, secondUrl);
+    }
+
+    // ---------- Helfer ----------
+
+    private Long inProgressFeature() {
+        FeatureRequest feature = featureService.save(FeatureRequest.builder()
+                .title("Ticket-Test")
+                .description("Beschreibung")
+                .category("Integration")
+                .status(FeatureStatus.OPEN)
+                .createdAt(LocalDateTime.now())
+                .build());
+        featureService.changeStatus(feature.getId(), FeatureStatus.IN_PROGRESS);
+        return feature.getId();
+    }
+
+    private void failUntilGivenUp(Long featureId) {
+        ticketClient.failNext(3);
+        for (int i = 0; i < 3; i++) {
+            makeDue(entryFor(featureId));
+            dispatcher.dispatchDue();
+        }
+    }
+
+    private TicketOutboxEntry entryFor(Long featureId) {
+        return outboxRepository.findFirstByFeatureIdOrderByIdDesc(featureId).orElseThrow();
+    }
+
+    private void makeDue(TicketOutboxEntry entry) {
+        entry.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(entry);
+    }
+
+    // Backoff plus bis zu 20 % Jitter; etwas Spielraum für die Laufzeit
+    private static void assertDelayBetween(LocalDateTime before, LocalDateTime next, long minMs, long maxMs) {
+        long delay = Duration.between(before, next).toMillis();
+        assertTrue(delay >= minMs - 50 && delay <= maxMs + 1000,
+                "Backoff " + delay + " ms, erwartet " + minMs + "–" + maxMs + " ms");
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.featurewishlist.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// Leert alle Tabellen der Test-DB zwischen den Tests. Boards bleiben stehen, weil der BoardService
+// das Standard-Board beim Start anlegt und alle Features darauf verweisen.
+public class DatabaseCleaner {
+
+    private static final List<String> KEEP = List.of("BOARD");
+
+    private final JdbcTemplate jdbc;
+
+    public DatabaseCleaner(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public void clean() {
+        List<String> tables = jdbc.queryForList("select table_name from information_schema.tables "
+                + "where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'", String.class);
+        jdbc.execute("set referential_integrity false");
+        try {
+            for (String table : tables) {
+                if (!KEEP.contains(table.toUpperCase())) {
+                    jdbc.execute("truncate table " + table);
+                }
+            }
+        } finally {
+            jdbc.execute("set referential_integrity true");
+        }
+    }
+}
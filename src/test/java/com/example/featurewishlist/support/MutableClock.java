@@ -0,0 +1,37 @@
+package com.example.featurewishlist.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Uhr, die ein Test gezielt vorstellen kann (z. B. über eine Quartalsgrenze)
+public class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public MutableClock(LocalDateTime start, ZoneId zone) {
+        this.zone = zone;
+        set(start);
+    }
+
+    public void set(LocalDateTime time) {
+        this.instant = time.atZone(zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.featurewishlist.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Zählt die von Hibernate vorbereiteten JDBC-Statements (und misst die Dauer) einer Aktion.
+// Die Statistik ist global – Hintergrundjobs müssen im Test abgeschaltet sein (app.scheduling.enabled=false).
+@Slf4j
+public class SqlStatementCounter {
+
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory emf) {
+        this.statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public Measurement measure(String label, Runnable action) {
+        statistics.clear();
+        long start = System.nanoTime();
+        action.run();
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        Measurement m = new Measurement(label, statistics.getPrepareStatementCount(), duration);
+        log.info("{}", m);
+        return m;
+    }
+
+    public record Measurement(String label, long statements, Duration duration) {
+
+        public Measurement assertAtMost(long budget) {
+            assertTrue(statements <= budget,
+                    label + ": " + statements + " SQL-Statements, Budget " + budget);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return label + ": " + statements + " Statements in " + duration.toMillis() + " ms";
+        }
+    }
+}
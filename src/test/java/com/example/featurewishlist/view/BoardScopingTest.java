@@ -0,0 +1,174 @@
+package com.example.featurewishlist.view;
+
+import com.example.featurewishlist.model.ArchivedFeatureRequest;
+import com.example.featurewishlist.model.Board;
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.repository.ArchivedFeatureRequestRepository;
+import com.example.featurewishlist.repository.BoardRepository;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.service.BoardService;
+import com.example.featurewishlist.service.FeatureQueryService;
+import com.example.featurewishlist.service.FeatureService;
+import com.example.featurewishlist.service.NotificationService;
+import com.example.featurewishlist.service.VoteBudgetService;
+import com.example.featurewishlist.service.VoteService;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import com.github.mvysny.kaributesting.v10.MockVaadin;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.NotFoundException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// Jede Abfrage und jede Route sieht nur die Features ihres Boards – aktiv wie archiviert.
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardScopingTest {
+
+    private static final String OTHER_SLUG = "zweites-board";
+
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private ArchivedFeatureRequestRepository archivedFeatureRepository;
+    @Autowired private BoardRepository boardRepository;
+
+    @Autowired private FeatureQueryService queryService;
+    @Autowired private FeatureService featureService;
+    @Autowired private VoteService voteService;
+    @Autowired private NotificationService notificationService;
+    @Autowired private BoardService boardService;
+    @Autowired private VoteBudgetService voteBudgetService;
+    @Autowired private JdbcTemplate jdbc;
+
+    private Board standard;
+    private Board other;
+
+    @BeforeEach
+    void setUp() {
+        MockVaadin.setup();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user", "n/a", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        new DatabaseCleaner(jdbc).clean();
+        standard = boardService.defaultBoard();
+        other = boardRepository.findBySlug(OTHER_SLUG).orElseGet(() -> boardRepository.save(Board.builder()
+                .slug(OTHER_SLUG)
+                .name("Zweites Board")
+                .createdAt(LocalDateTime.now())
+                .build()));
+        seed(standard, "A");
+        seed(other, "B");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockVaadin.tearDown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void queriesAreScopedToBoard() {
+        assertEquals(Set.of("A offen", "A umgesetzt"), titles(page(standard, null)));
+        assertEquals(Set.of("B offen"), titles(page(other, FeatureStatus.OPEN)));
+        // Abgeschlossene: aktiver Bestand und Archiv, beide nur vom eigenen Board
+        assertEquals(Set.of("B umgesetzt", "B archiviert"), titles(page(other, FeatureStatus.COMPLETED)));
+    }
+
+    @Test
+    void provisionMovesArchivedFeaturesWithoutBoardToDefault() {
+        archived(null, "Alt archiviert", 900L);
+
+        boardService.provision();
+
+        assertEquals(Set.of("A umgesetzt", "A archiviert", "Alt archiviert"),
+                titles(page(standard, FeatureStatus.COMPLETED)));
+        assertEquals(Set.of("B umgesetzt", "B archiviert"), titles(page(other, FeatureStatus.COMPLETED)));
+    }
+
+    @Test
+    void boardRouteShowsOnlyThatBoard() {
+        FeatureListView list = new FeatureListView(queryService, featureService, voteService, notificationService,
+                boardService, voteBudgetService);
+        list.setParameter(null, OTHER_SLUG);
+        assertEquals(Set.of("B offen", "B umgesetzt"), titles(rows(list)));
+
+        AdminFeatureView admin = new AdminFeatureView(queryService, featureService, boardService);
+        admin.setParameter(null, null);
+        assertEquals(Set.of("A offen", "A umgesetzt"), titles(rows(admin)));
+    }
+
+    @Test
+    void unknownBoardRoutesToNotFound() {
+        BeforeEvent listEvent = mock(BeforeEvent.class);
+        new FeatureListView(queryService, featureService, voteService, notificationService, boardService,
+                voteBudgetService).setParameter(listEvent, "gibt-es-nicht");
+        verify(listEvent).rerouteToError(eq(NotFoundException.class), anyString());
+
+        BeforeEvent adminEvent = mock(BeforeEvent.class);
+        new AdminFeatureView(queryService, featureService, boardService).setParameter(adminEvent, "gibt-es-nicht");
+        verify(adminEvent).rerouteToError(eq(NotFoundException.class), anyString());
+    }
+
+    private List<FeatureSummary> page(Board board, FeatureStatus status) {
+        return queryService.findPage(board.getId(), status, 0, 50, Sort.unsorted());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<FeatureSummary> rows(Component view) {
+        UI.getCurrent().removeAll();
+        UI.getCurrent().add(view);
+        Grid<FeatureSummary> grid = (Grid<FeatureSummary>) view.getChildren()
+                .filter(Grid.class::isInstance)
+                .findFirst()
+                .orElseThrow();
+        return grid.getDataProvider().fetch(new Query<>(0, 50, List.of(), null, null)).toList();
+    }
+
+    private static Set<String> titles(List<FeatureSummary> rows) {
+        return rows.stream().map(FeatureSummary::title).collect(Collectors.toSet());
+    }
+
+    private void seed(Board board, String prefix) {
+        featureRepository.save(FeatureRequest.builder().board(board).title(prefix + " offen")
+                .status(FeatureStatus.OPEN).build());
+        featureRepository.save(FeatureRequest.builder().board(board).title(prefix + " umgesetzt")
+                .status(FeatureStatus.COMPLETED).build());
+        archived(board.getId(), prefix + " archiviert", "A".equals(prefix) ? 800L : 801L);
+    }
+
+    private void archived(Long boardId, String title, long id) {
+        archivedFeatureRepository.save(ArchivedFeatureRequest.builder()
+                .id(id)
+                .boardId(boardId)
+                .title(title)
+                .status(FeatureStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .archivedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,397 @@
+package com.example.featurewishlist.view;
+
+import com.example.featurewishlist.model.Board;
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.model.FeatureSummary;
+import com.example.featurewishlist.model.Vote;
+import com.example.featurewishlist.model.Voter;
+import com.example.featurewishlist.repository.FeatureRequestRepository;
+import com.example.featurewishlist.repository.VoteRepository;
+import com.example.featurewishlist.repository.VoterRepository;
+import com.example.featurewishlist.service.BoardService;
+import com.example.featurewishlist.service.FeatureQueryService;
+import com.example.featurewishlist.service.FeatureService;
+import com.example.featurewishlist.service.NotificationService;
+import com.example.featurewishlist.service.RankingService;
+import com.example.featurewishlist.service.VoteBudgetService;
+import com.example.featurewishlist.service.VoteResult;
+import com.example.featurewishlist.service.VoteService;
+import com.example.featurewishlist.support.DatabaseCleaner;
+import com.example.featurewishlist.support.SqlStatementCounter;
+import com.example.featurewishlist.support.SqlStatementCounter.Measurement;
+
+import com.github.mvysny.kaributesting.v10.MockVaadin;
+import com.vaadin.flow.component.ClickEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Statement-Budgets für die Views: Aufbau + erstes Rendern, Filterwechsel, Vote, Statuswechsel und
+// Speichern im Admin-Dialog. Schlägt fehl, wenn die Anzahl der SQL-Statements mit der Zeilenzahl wächst
+// (N+1) oder das Budget reißt.
+@SpringBootTest
+@ActiveProfiles("test")
+class ViewQueryBudgetTest {
+
+    private static final int PAGE = 50;
+    private static final int SMALL = 10;
+    private static final int LARGE = 200;
+
+    // Jedes Budget ist die Summe der erwarteten Statements je Schritt. Braucht eine Aktion ein weiteres
+    // Statement, wird es hier als eigener Schritt aufgeführt – nicht ein Sammelbudget erhöht.
+
+    // Erste Seite; bei abgeschlossenem Status: Zählung aktiver Bestand, aktiver Bestand, Archiv
+    private static final long RENDER_BUDGET = 3;
+    private static final long RELOAD = 1;
+
+    private static final long RANKING = 2;   // Eingangsgrößen lesen, rankScore schreiben
+    private static final long CHANGE_EVENT = 1;
+
+    // Neuer Voter, erste Stimme, über die View
+    private static final long FIRST_VOTE_BUDGET =
+            2               // Voter nachschlagen, anlegen
+            + 3             // Abbuchung (kein Konto), Konto anlegen, Abbuchung
+            + 1             // Punkte am Feature (sperrt die Zeile)
+            + 2             // Gewicht erhöhen (0 Zeilen), Stimme einfügen
+            + 1             // Abo
+            + RANKING + CHANGE_EVENT + RELOAD;
+
+    // Bekannter Voter, weiterer Punkt auf dasselbe Feature, direkt über den Service
+    private static final long REPEAT_VOTE_BUDGET =
+            1               // Voter nachschlagen
+            + 1             // Abbuchung
+            + 1             // Punkte am Feature
+            + 1             // Gewicht erhöhen
+            + RANKING + CHANGE_EVENT;
+
+    // OPEN → IN_PROGRESS aus dem Grid
+    private static final long STATUS_CHANGE_BUDGET =
+            2               // Feature laden, Update beim Flush
+            + 2             // Outbox nachschlagen, anlegen
+            + 1             // Statuswechsel für den Digest
+            + RANKING + CHANGE_EVENT + RELOAD;
+
+    // Titel ändern im Admin-Dialog: Speichern bis zum Neuladen des Grids
+    private static final long ADMIN_SAVE_BUDGET =
+            1               // gespeicherten Status lesen
+            + 2             // merge der bearbeiteten Entity (Select), Update beim Flush
+            + RANKING + CHANGE_EVENT + RELOAD;
+
+    @Autowired private FeatureRequestRepository featureRepository;
+    @Autowired private VoteRepository voteRepository;
+    @Autowired private VoterRepository voterRepository;
+
+    @Autowired private FeatureQueryService queryService;
+    @Autowired private FeatureService featureService;
+    @Autowired private VoteService voteService;
+    @Autowired private NotificationService notificationService;
+    @Autowired private RankingService rankingService;
+    @Autowired private BoardService boardService;
+    @Autowired private VoteBudgetService voteBudgetService;
+
+    @Autowired private EntityManagerFactory emf;
+    @Autowired private JdbcTemplate jdbc;
+
+    private SqlStatementCounter sql;
+
+    @BeforeEach
+    void setUp() {
+        MockVaadin.setup();
+        sql = new SqlStatementCounter(emf);
+        clearData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockVaadin.tearDown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void featureListRenderIsIndependentOfRowCount() {
+        loginAs("USER");
+        Measurement small = measureFeatureListRender(SMALL);
+        Measurement large = measureFeatureListRender(LARGE);
+
+        assertEquals(small.statements(), large.statements(),
+                "FeatureListView: Statements wachsen mit der Zeilenzahl (N+1?)");
+        large.assertAtMost(RENDER_BUDGET);
+    }
+
+    @Test
+    void adminRenderIsIndependentOfRowCount() {
+        loginAs("ADMIN");
+        Measurement small = measureAdminRender(SMALL);
+        Measurement large = measureAdminRender(LARGE);
+
+        assertEquals(small.statements(), large.statements(),
+                "AdminFeatureView: Statements wachsen mit der Zeilenzahl (N+1?)");
+        large.assertAtMost(RENDER_BUDGET);
+    }
+
+    @Test
+    void filterChangeStaysWithinBudget() {
+        loginAs("USER");
+        seed(LARGE, 3);
+        FeatureListView view = attach(newFeatureListView());
+        Grid<FeatureSummary> grid = grid(view);
+        render(grid);
+        Select<FeatureStatus> filter = statusFilter(view);
+
+        sql.measure("updateGrid(OPEN)", () -> {
+            filter.setValue(FeatureStatus.OPEN);
+            render(grid);
+        }).assertAtMost(RENDER_BUDGET);
+
+        sql.measure("updateGrid(COMPLETED, inkl. Archiv)", () -> {
+            filter.setValue(FeatureStatus.COMPLETED);
+            render(grid);
+        }).assertAtMost(RENDER_BUDGET);
+    }
+
+    @Test
+    void firstVoteIsIndependentOfRowCount() {
+        loginAs("USER");
+        Measurement small = measureFirstVote(SMALL);
+        Measurement large = measureFirstVote(LARGE);
+
+        assertEquals(small.statements(), large.statements(), "Vote: Statements wachsen mit der Zeilenzahl");
+        large.assertAtMost(FIRST_VOTE_BUDGET);
+    }
+
+    @Test
+    void repeatVoteStaysWithinBudget() {
+        seed(LARGE, 3);
+        Long featureId = firstRow().id();
+        UUID voter = UUID.randomUUID();
+        assertEquals(VoteResult.COUNTED, voteService.vote(featureId, voter));
+
+        sql.measure("Weiterer Punkt, bekannter Voter", () ->
+                assertEquals(VoteResult.COUNTED, voteService.vote(featureId, voter)))
+                .assertAtMost(REPEAT_VOTE_BUDGET);
+    }
+
+    @Test
+    void statusChangeIsIndependentOfRowCount() {
+        loginAs("ADMIN");
+        Measurement small = measureStatusChange(SMALL);
+        Measurement large = measureStatusChange(LARGE);
+
+        assertEquals(small.statements(), large.statements(), "Statuswechsel: Statements wachsen mit der Zeilenzahl");
+        large.assertAtMost(STATUS_CHANGE_BUDGET);
+    }
+
+    @Test
+    void adminEditSaveIsIndependentOfRowCount() {
+        loginAs("ADMIN");
+        Measurement small = measureAdminSave(SMALL);
+        Measurement large = measureAdminSave(LARGE);
+
+        assertEquals(small.statements(), large.statements(), "Admin-Speichern: Statements wachsen mit der Zeilenzahl");
+        large.assertAtMost(ADMIN_SAVE_BUDGET);
+    }
+
+    // ---------- Messungen ----------
+
+    private Measurement measureFeatureListRender(int rows) {
+        clearData();
+        seed(rows, 3);
+        return sql.measure("FeatureListView, " + rows + " Features", () -> render(grid(attach(newFeatureListView()))));
+    }
+
+    private Measurement measureAdminRender(int rows) {
+        clearData();
+        seed(rows, 3);
+        return sql.measure("AdminFeatureView, " + rows + " Features",
+                () -> render(grid(attach(newAdminFeatureView()))));
+    }
+
+    private Measurement measureFirstVote(int rows) {
+        clearData();
+        seed(rows, 3);
+        FeatureListView view = attach(newFeatureListView());
+        Grid<FeatureSummary> grid = grid(view);
+        render(grid);
+
+        Button vote = (Button) cellComponent(grid, "vote", firstRow());
+        return sql.measure("Erste Stimme + Neuladen, " + rows + " Features", () -> {
+            ComponentUtil.fireEvent(vote, new ClickEvent<>(vote));
+            render(grid);
+        });
+    }
+
+    private Measurement measureStatusChange(int rows) {
+        clearData();
+        seed(rows, 3);
+        FeatureListView view = attach(newFeatureListView());
+        Grid<FeatureSummary> grid = grid(view);
+        render(grid);
+
+        @SuppressWarnings("unchecked")
+        Select<FeatureStatus> status = (Select<FeatureStatus>) cellComponent(grid, "statusEdit", firstRow());
+        return sql.measure("Statuswechsel + Neuladen, " + rows + " Features", () -> {
+            status.setValue(FeatureStatus.IN_PROGRESS);
+            render(grid);
+        });
+    }
+
+    // Dialog öffnen (lädt die Entity) ist nicht Teil der Messung, nur Speichern und Neuladen
+    private Measurement measureAdminSave(int rows) {
+        clearData();
+        seed(rows, 3);
+        AdminFeatureView view = attach(newAdminFeatureView());
+        Grid<FeatureSummary> grid = grid(view);
+        render(grid);
+
+        Button edit = (Button) cellComponent(grid, "edit", firstRow());
+        ComponentUtil.fireEvent(edit, new ClickEvent<>(edit));
+        MockVaadin.clientRoundtrip(); // der Dialog hängt sich erst beim Roundtrip an die UI
+        Dialog dialog = descendants(UI.getCurrent(), Dialog.class).get(0);
+        descendants(dialog, TextField.class).stream()
+                .filter(f -> "Titel".equals(f.getLabel()))
+                .findFirst()
+                .orElseThrow()
+                .setValue("Geänderter Titel");
+        Button save = descendants(dialog, Button.class).stream()
+                .filter(b -> "Speichern".equals(b.getText()))
+                .findFirst()
+                .orElseThrow();
+
+        return sql.measure("Admin-Dialog speichern + Neuladen, " + rows + " Features", () -> {
+            ComponentUtil.fireEvent(save, new ClickEvent<>(save));
+            render(grid);
+        });
+    }
+
+    // Ohne Router: setParameter(null) entspricht dem Aufruf ohne Board-Slug (Standard-Board)
+    private FeatureListView newFeatureListView() {
+        FeatureListView view = new FeatureListView(queryService, featureService, voteService, notificationService,
+                boardService, voteBudgetService);
+        view.setParameter(null, null);
+        return view;
+    }
+
+    private AdminFeatureView newAdminFeatureView() {
+        AdminFeatureView view = new AdminFeatureView(queryService, featureService, boardService);
+        view.setParameter(null, null);
+        return view;
+    }
+
+    // ---------- Vaadin-Helfer ----------
+
+    private <T extends Component> T attach(T view) {
+        UI.getCurrent().removeAll();
+        UI.getCurrent().add(view);
+        return view;
+    }
+
+    // Simuliert die Client-Anfrage der ersten Seite und den anschließenden Server-Roundtrip
+    private static void render(Grid<?> grid) {
+        grid.getDataCommunicator().setRequestedRange(0, PAGE);
+        MockVaadin.clientRoundtrip();
+    }
+
+    // Erzeugt die Zellen-Komponente genauso wie das Grid beim Rendern
+    @SuppressWarnings("unchecked")
+    private static Component cellComponent(Grid<FeatureSummary> grid, String columnKey, FeatureSummary item) {
+        var renderer = (ComponentRenderer<? extends Component, FeatureSummary>) grid.getColumnByKey(columnKey).getRenderer();
+        return renderer.createComponent(item);
+    }
+
+    private FeatureSummary firstRow() {
+        List<FeatureSummary> page = queryService.findPage(boardService.defaultBoard().getId(), null, 0, 1,
+                Sort.unsorted());
+        assertFalse(page.isEmpty(), "keine Testdaten");
+        return page.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Grid<FeatureSummary> grid(Component root) {
+        return (Grid<FeatureSummary>) descendants(root, Grid.class).get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Select<FeatureStatus> statusFilter(Component root) {
+        return descendants(root, Select.class).stream()
+                .filter(s -> "Status filtern".equals(s.getLabel()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static <T extends Component> List<T> descendants(Component root, Class<T> type) {
+        List<T> result = new ArrayList<>();
+        root.getChildren().forEach(child -> {
+            if (type.isInstance(child)) {
+                result.add(type.cast(child));
+            }
+            result.addAll(descendants(child, type));
+        });
+        return result;
+    }
+
+    private static void loginAs(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                role.toLowerCase(), "n/a", List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+    }
+
+    // ---------- Testdaten ----------
+
+    private void seed(int features, int votesPerFeature) {
+        LocalDateTime now = LocalDateTime.now();
+        Board board = boardService.defaultBoard();
+        List<Voter> voters = voterRepository.saveAll(IntStream.range(0, votesPerFeature)
+                .mapToObj(i -> Voter.builder().uuid(UUID.randomUUID()).firstSeenAt(now).build())
+                .toList());
+        List<FeatureRequest> saved = featureRepository.saveAll(IntStream.range(0, features)
+                .mapToObj(i -> FeatureRequest.builder()
+                        .board(board)
+                        .title("Feature " + i)
+                        .description("Beschreibung ".repeat(300))
+                        .category(i % 2 == 0 ? "UI/UX" : "Integration")
+                        .status(i % 5 == 0 ? FeatureStatus.COMPLETED : FeatureStatus.OPEN)
+                        .createdAt(now.minusHours(i))
+                        .build())
+                .toList());
+        List<Vote> votes = new ArrayList<>();
+        for (FeatureRequest feature : saved) {
+            for (Voter voter : voters) {
+                votes.add(Vote.builder().feature(feature).voter(voter).votedAt(now).build());
+            }
+        }
+        voteRepository.saveAll(votes);
+        rankingService.recomputeAll();
+    }
+
+    private void clearData() {
+        new DatabaseCleaner(jdbc).clean();
+    }
+}
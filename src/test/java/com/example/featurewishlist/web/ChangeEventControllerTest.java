@@ -0,0 +1,154 @@
+package com.example.featurewishlist.web;
+
+import com.example.featurewishlist.model.ChangeEvent;
+import com.example.featurewishlist.model.ChangeEventType;
+import com.example.featurewishlist.repository.ChangeEventRepository;
+import com.example.featurewishlist.service.events.ChangeEventRelay;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Änderungsstream über HTTP: Fortsetzen per Last-Event-ID über Nachholen und Live-Betrieb hinweg ohne
+// Duplikate, 410 für gelöschte Stände, eigene Basic-Auth-Kette nur für /api/**.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeEventControllerTest {
+
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+    @Autowired private MockMvc mvc;
+    @Autowired private ChangeEventRelay relay;
+    @Autowired private ChangeEventRepository repository;
+    @Autowired private JdbcTemplate jdbc;
+
+    private long base;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        relay.relay();
+        base = relay.lastRelayedSeq();
+    }
+
+    @Test
+    void resumesFromLastEventIdWithoutGapsOrDuplicates() throws Exception {
+        saveEvents(3);
+        relay.relay();
+
+        MvcResult result = mvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "admin"))
+                        .header("Last-Event-ID", Long.toString(base + 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(seqs(base + 2, base + 3), awaitIds(result, base + 3));
+
+        saveEvents(2);
+        relay.relay();
+
+        assertEquals(seqs(base + 2, base + 5), awaitIds(result, base + 5));
+        assertNull(result.getRequest().getSession(false), "API-Kette ist session-los");
+    }
+
+    @Test
+    void prunedPositionIsGone() throws Exception {
+        saveEvents(3);
+        relay.relay();
+        jdbc.update("delete from change_event where seq = ?", base + 1);
+
+        mvc.perform(get("/api/events").param("since", Long.toString(base))
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isGone());
+        mvc.perform(get("/api/events").param("since", Long.toString(base + 1))
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void positionAheadOfTheStreamIsGone() throws Exception {
+        mvc.perform(get("/api/events").param("since", Long.toString(base + 10))
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void apiUsesBasicAuthForAdminsOnly() throws Exception {
+        mvc.perform(get("/api/events"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, containsString("Basic")));
+        mvc.perform(get("/api/events").header(HttpHeaders.AUTHORIZATION, basic("user", "user")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void uiDoesNotAcceptBasicAuth() throws Exception {
+        mvc.perform(get("/admin").header(HttpHeaders.AUTHORIZATION, basic("admin", "admin")))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string(HttpHeaders.LOCATION, containsString("/login")));
+    }
+
+    private void saveEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            repository.save(ChangeEvent.builder()
+                    .type(ChangeEventType.VOTE_CAST)
+                    .featureId((long) i)
+                    .payload("{}")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    // Gesendet wird auf den Sende-Threads des Relays; wartet, bis die erwartete letzte id angekommen ist
+    private static List<Long> awaitIds(MvcResult result, long lastId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<Long> ids = ids(result.getResponse().getContentAsString());
+        while ((ids.isEmpty() || ids.get(ids.size() - 1) < lastId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            ids = ids(result.getResponse().getContentAsString());
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(String content) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(content);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static List<Long> seqs(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
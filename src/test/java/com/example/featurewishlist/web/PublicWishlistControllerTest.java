@@ -0,0 +1,106 @@
+package com.example.featurewishlist.web;
+
+import com.example.featurewishlist.model.FeatureRequest;
+import com.example.featurewishlist.model.FeatureStatus;
+import com.example.featurewishlist.service.FeatureService;
+import com.example.featurewishlist.service.VoteResult;
+import com.example.featurewishlist.service.VoteService;
+import com.example.featurewishlist.service.WishlistChangedEvent;
+import com.example.featurewishlist.support.DatabaseCleaner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Öffentliche Seite: ohne Login und ohne Session, 304 bei passendem ETag, neue Seite nach einer Stimme.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublicWishlistControllerTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private PublicWishlistPage page;
+    @Autowired private FeatureService featureService;
+    @Autowired private VoteService voteService;
+    @Autowired private JdbcTemplate jdbc;
+
+    private Long featureId;
+
+    @BeforeEach
+    void setUp() {
+        new DatabaseCleaner(jdbc).clean();
+        page.onChange(WishlistChangedEvent.allBoards());
+        featureId = featureService.save(FeatureRequest.builder()
+                .title("Export als CSV")
+                .status(FeatureStatus.OPEN)
+                .build()).getId();
+    }
+
+    @Test
+    void servesPageWithoutSession() throws Exception {
+        MvcResult result = mvc.perform(get("/public/wishlist"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false), "öffentliche Seite darf keine Session anlegen");
+        assertTrue(result.getResponse().getContentAsString().contains("Export als CSV"));
+    }
+
+    @Test
+    void matchingEtagGivesNotModified() throws Exception {
+        String etag = etag();
+
+        mvc.perform(get("/public/wishlist").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void voteInvalidatesCachedPage() throws Exception {
+        String before = etag();
+
+        assertEquals(VoteResult.COUNTED, voteService.vote(featureId, UUID.randomUUID()));
+
+        MvcResult after = mvc.perform(get("/public/wishlist").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(before, after.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(after.getResponse().getContentAsString().contains("<td class=\"num\">1</td>"));
+    }
+
+    @Test
+    void unknownBoardIsNotFound() throws Exception {
+        mvc.perform(get("/public/wishlist/gibt-es-nicht")).andExpect(status().isNotFound());
+    }
+
+    private String etag() throws Exception {
+        String etag = mvc.perform(get("/public/wishlist"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+}